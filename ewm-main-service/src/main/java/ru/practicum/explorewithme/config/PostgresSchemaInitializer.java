@@ -0,0 +1,64 @@
+package ru.practicum.explorewithme.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PostgresSchemaInitializer implements ApplicationRunner {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String SCRIPT = "db/postgresql/schema.sql";
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            List<String> statements = statements();
+            int failed = 0;
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : statements) {
+                    try {
+                        statement.execute(sql);
+                    } catch (SQLException e) {
+                        failed++;
+                        log.error("Не удалось выполнить оператор из {}: {} — {}", SCRIPT, sql, e.getMessage());
+                    }
+                }
+            }
+            if (failed == 0) {
+                log.info("Применены PostgreSQL-специфичные объекты схемы из {}", SCRIPT);
+            } else {
+                log.error("Из {} не применено {} из {} операторов", SCRIPT, failed, statements.size());
+            }
+        } catch (SQLException | IOException e) {
+            log.error("Не удалось применить {}: {}", SCRIPT, e.getMessage(), e);
+        }
+    }
+
+    private List<String> statements() throws IOException {
+        String script = new ClassPathResource(SCRIPT).getContentAsString(StandardCharsets.UTF_8);
+        return script.lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("--"))
+                .map(line -> line.endsWith(";") ? line.substring(0, line.length() - 1) : line)
+                .toList();
+    }
+}
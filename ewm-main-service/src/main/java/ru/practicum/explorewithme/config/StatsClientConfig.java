@@ -1,17 +1,197 @@
 package ru.practicum.explorewithme.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import ru.practicum.stats.client.CircuitBreakerSettings;
+import ru.practicum.stats.client.CircuitState;
+import ru.practicum.stats.client.HitBufferSettings;
+import ru.practicum.stats.client.OverflowPolicy;
+import ru.practicum.stats.client.StatsCircuitBreaker;
 import ru.practicum.stats.client.StatsClient;
+import ru.practicum.stats.client.StatsHitBuffer;
+import ru.practicum.stats.client.StatsHttpTransport;
+import ru.practicum.stats.client.StatsTransportSettings;
+
+import java.nio.file.Path;
+import java.time.Duration;
 
 @Configuration
 public class StatsClientConfig {
     @Value("${stats.service.url}")
     private String serverUrl;
 
+    @Value("${stats.client.buffer.enabled:false}")
+    private boolean bufferEnabled;
+
+    @Value("${stats.client.buffer.capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${stats.client.buffer.batch-size:500}")
+    private int bufferBatchSize;
+
+    @Value("${stats.client.buffer.flush-interval:1s}")
+    private Duration bufferFlushInterval;
+
+    @Value("${stats.client.buffer.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy bufferOverflowPolicy;
+
+    @Value("${stats.client.buffer.block-timeout:50ms}")
+    private Duration bufferBlockTimeout;
+
+    @Value("${stats.client.buffer.spill-directory:${java.io.tmpdir}/ewm-stats-spill}")
+    private Path bufferSpillDirectory;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${stats.client.transport.connect-timeout:1s}")
+    private Duration transportConnectTimeout;
+
+    @Value("${stats.client.transport.response-timeout:2s}")
+    private Duration transportResponseTimeout;
+
+    @Value("${stats.client.transport.connection-request-timeout:500ms}")
+    private Duration transportConnectionRequestTimeout;
+
+    @Value("${stats.client.transport.max-connections:50}")
+    private int transportMaxConnections;
+
+    @Value("${stats.client.transport.max-connections-per-route:20}")
+    private int transportMaxConnectionsPerRoute;
+
+    @Value("${stats.client.transport.keep-alive:30s}")
+    private Duration transportKeepAlive;
+
+    @Value("${stats.client.transport.idle-timeout:60s}")
+    private Duration transportIdleTimeout;
+
+    @Value("${stats.client.circuit-breaker.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${stats.client.circuit-breaker.open-duration:30s}")
+    private Duration circuitOpenDuration;
+
+    @Value("${stats.client.circuit-breaker.half-open-probes:1}")
+    private int circuitHalfOpenProbes;
+
+    @Value("${stats.client.circuit-breaker.last-known-good-size:1000}")
+    private int circuitLastKnownGoodSize;
+
+    @Value("${stats.client.circuit-breaker.last-known-good-window-bucket:1h}")
+    private Duration circuitLastKnownGoodWindowBucket;
+
     @Bean
     public StatsClient statsClient() {
-        return new StatsClient(serverUrl);
+        StatsTransportSettings transportSettings = StatsTransportSettings.builder()
+                .connectTimeout(transportConnectTimeout)
+                .responseTimeout(transportResponseTimeout)
+                .connectionRequestTimeout(transportConnectionRequestTimeout)
+                .maxConnections(transportMaxConnections)
+                .maxConnectionsPerRoute(transportMaxConnectionsPerRoute)
+                .keepAlive(transportKeepAlive)
+                .idleTimeout(transportIdleTimeout)
+                .build();
+        CircuitBreakerSettings circuitBreakerSettings = CircuitBreakerSettings.builder()
+                .failureThreshold(circuitFailureThreshold)
+                .openDuration(circuitOpenDuration)
+                .halfOpenProbes(circuitHalfOpenProbes)
+                .lastKnownGoodSize(circuitLastKnownGoodSize)
+                .lastKnownGoodWindowBucket(circuitLastKnownGoodWindowBucket)
+                .build();
+
+        if (!bufferEnabled) {
+            return new StatsClient(serverUrl, null, transportSettings, circuitBreakerSettings);
+        }
+
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .capacity(bufferCapacity)
+                .batchSize(bufferBatchSize)
+                .flushInterval(bufferFlushInterval)
+                .overflowPolicy(bufferOverflowPolicy)
+                .blockTimeout(bufferBlockTimeout)
+                .spillDirectory(bufferSpillDirectory)
+                .virtualThreads(virtualThreads)
+                .build();
+        return new StatsClient(serverUrl, settings, transportSettings, circuitBreakerSettings);
+    }
+
+    @Bean
+    public MeterBinder statsTransportMetrics(StatsClient statsClient) {
+        return registry -> {
+            StatsHttpTransport transport = statsClient.getTransport();
+
+            Gauge.builder("stats.client.pool.leased", transport, StatsHttpTransport::getLeasedConnections)
+                    .description("Connections to stats-server currently in use")
+                    .register(registry);
+            Gauge.builder("stats.client.pool.available", transport, StatsHttpTransport::getAvailableConnections)
+                    .description("Idle keep-alive connections to stats-server")
+                    .register(registry);
+            Gauge.builder("stats.client.pool.pending", transport, StatsHttpTransport::getPendingConnectionRequests)
+                    .description("Requests waiting for a pooled connection")
+                    .register(registry);
+            Gauge.builder("stats.client.pool.max", transport, StatsHttpTransport::getMaxConnections)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder statsCircuitBreakerMetrics(StatsClient statsClient) {
+        return registry -> {
+            StatsCircuitBreaker breaker = statsClient.getCircuitBreaker();
+
+            Gauge.builder("stats.client.circuit.state", breaker, b -> b.getState().ordinal())
+                    .description("0 - closed, 1 - half-open, 2 - open")
+                    .register(registry);
+            FunctionCounter.builder("stats.client.circuit.rejected", breaker, StatsCircuitBreaker::getRejectedCalls)
+                    .register(registry);
+            FunctionCounter.builder("stats.client.stats.fallback", statsClient, StatsClient::getFallbackResponses)
+                    .description("getStats answers served from the last-known-good cache")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public HealthIndicator statsServerHealthIndicator(StatsClient statsClient) {
+        return () -> {
+            StatsCircuitBreaker breaker = statsClient.getCircuitBreaker();
+            CircuitState state = breaker.getState();
+            return (state == CircuitState.OPEN ? Health.unknown() : Health.up())
+                    .withDetail("circuit", state)
+                    .withDetail("rejectedCalls", breaker.getRejectedCalls())
+                    .build();
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "stats.client.buffer.enabled", havingValue = "true")
+    public MeterBinder statsHitBufferMetrics(StatsClient statsClient) {
+        return registry -> {
+            StatsHitBuffer buffer = statsClient.getHitBuffer();
+            if (buffer == null) {
+                return;
+            }
+
+            Gauge.builder("stats.client.buffer.queue.depth", buffer, StatsHitBuffer::getQueueDepth)
+                    .description("Hits waiting in the in-memory queue")
+                    .register(registry);
+            Gauge.builder("stats.client.buffer.spill.pending", buffer, StatsHitBuffer::getPendingSpilledHits)
+                    .description("Hits waiting in the spill file")
+                    .register(registry);
+            FunctionCounter.builder("stats.client.buffer.hits.sent", buffer, StatsHitBuffer::getSentHits)
+                    .register(registry);
+            FunctionCounter.builder("stats.client.buffer.hits.dropped", buffer, StatsHitBuffer::getDroppedHits)
+                    .register(registry);
+            FunctionCounter.builder("stats.client.buffer.hits.spilled", buffer, StatsHitBuffer::getSpilledHits)
+                    .register(registry);
+            FunctionCounter.builder("stats.client.buffer.batches.failed", buffer, StatsHitBuffer::getFailedBatches)
+                    .register(registry);
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package ru.practicum.explorewithme.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements MeterBinder, AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final RecordingStream stream;
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private final AtomicLong pinnedNanos = new AtomicLong();
+
+    public VirtualThreadPinningMonitor(
+            @Value("${ewm.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Мониторинг закрепления виртуальных потоков запущен, порог {}", threshold);
+    }
+
+    public long getPinnedEvents() {
+        return pinnedEvents.get();
+    }
+
+    public double getPinnedSeconds() {
+        return pinnedNanos.get() / 1e9;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jvm.threads.virtual.pinned", this, VirtualThreadPinningMonitor::getPinnedEvents)
+                .description("Virtual threads that blocked while pinned to their carrier longer than the threshold")
+                .register(registry);
+        FunctionCounter.builder("jvm.threads.virtual.pinned.time", this, VirtualThreadPinningMonitor::getPinnedSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        pinnedNanos.addAndGet(event.getDuration().toNanos());
+        log.warn("Виртуальный поток {} удерживал несущий поток {} мс:\n{}",
+                event.getThread() != null ? event.getThread().getJavaName() : "?",
+                event.getDuration().toMillis(), frames(event));
+    }
+
+    private static String frames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "    <стек недоступен>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "."
+                        + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -1,13 +1,16 @@
 package ru.practicum.explorewithme.controller.admin;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.explorewithme.dto.CommentDto;
 import ru.practicum.explorewithme.dto.CommentModerationRequest;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.model.enums.CommentStatus;
 import ru.practicum.explorewithme.service.CommentService;
+import ru.practicum.explorewithme.util.KeysetCursor;
 
 import java.util.List;
 
@@ -23,8 +26,15 @@ public class AdminCommentController {
     public List<CommentDto> getCommentsForModeration(
             @RequestParam(required = false) CommentStatus status,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor,
+            HttpServletResponse response) {
         log.info("GET /admin/comments: получение комментариев для модерации status={}", status);
+        if (cursor != null) {
+            CursorPage<CommentDto> page = commentService.getCommentsForModerationByCursor(status, cursor, size);
+            KeysetCursor.writeNextCursor(response, page);
+            return page.getItems();
+        }
         return commentService.getCommentsForModeration(status, from, size);
     }
 
@@ -1,5 +1,6 @@
 package ru.practicum.explorewithme.controller.admin;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,11 +13,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.EventFullDto;
 import ru.practicum.explorewithme.dto.UpdateEventAdminRequest;
 import ru.practicum.explorewithme.dto.validation.ValidationGroups;
 import ru.practicum.explorewithme.model.enums.EventState;
 import ru.practicum.explorewithme.service.EventService;
+import ru.practicum.explorewithme.util.KeysetCursor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,7 +41,9 @@ public class AdminEventController {
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime rangeStart,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime rangeEnd,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor,
+            HttpServletResponse response) {
 
         log.info("GET /admin/events: поиск событий users={}, states={}, categories={}", users, states, categories);
 
@@ -54,6 +59,13 @@ public class AdminEventController {
             }
         }
 
+        if (cursor != null) {
+            CursorPage<EventFullDto> page = eventService.getEventsByAdminByCursor(users, eventStates, categories,
+                    rangeStart, rangeEnd, cursor, size);
+            KeysetCursor.writeNextCursor(response, page);
+            return page.getItems();
+        }
+
         return eventService.getEventsByAdmin(users, eventStates, categories, rangeStart, rangeEnd, from, size);
     }
 
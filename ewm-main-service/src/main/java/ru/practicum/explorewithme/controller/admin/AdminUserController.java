@@ -1,5 +1,6 @@
 package ru.practicum.explorewithme.controller.admin;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,9 +14,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.NewUserRequest;
 import ru.practicum.explorewithme.dto.UserDto;
 import ru.practicum.explorewithme.service.UserService;
+import ru.practicum.explorewithme.util.KeysetCursor;
 
 import java.util.List;
 
@@ -37,8 +40,15 @@ public class AdminUserController {
     @GetMapping
     public List<UserDto> getUsers(@RequestParam(required = false) List<Long> ids,
                                   @RequestParam(defaultValue = "0") Integer from,
-                                  @RequestParam(defaultValue = "10") Integer size) {
+                                  @RequestParam(defaultValue = "10") Integer size,
+                                  @RequestParam(required = false) String cursor,
+                                  HttpServletResponse response) {
         log.info("GET /admin/users: получение пользователей ids={}, from={}, size={}", ids, from, size);
+        if (cursor != null) {
+            CursorPage<UserDto> page = userService.getUsersByCursor(ids, cursor, size);
+            KeysetCursor.writeNextCursor(response, page);
+            return page.getItems();
+        }
         return userService.getUsers(ids, from, size);
     }
 
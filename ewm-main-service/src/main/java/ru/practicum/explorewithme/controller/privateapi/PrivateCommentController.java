@@ -1,5 +1,6 @@
 package ru.practicum.explorewithme.controller.privateapi;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,9 +16,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.explorewithme.dto.CommentDto;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.NewCommentDto;
 import ru.practicum.explorewithme.dto.UpdateCommentDto;
 import ru.practicum.explorewithme.service.CommentService;
+import ru.practicum.explorewithme.util.KeysetCursor;
 
 import java.util.List;
 
@@ -32,8 +35,15 @@ public class PrivateCommentController {
     @GetMapping
     public List<CommentDto> getUserComments(@PathVariable Long userId,
                                             @RequestParam(defaultValue = "0") Integer from,
-                                            @RequestParam(defaultValue = "10") Integer size) {
+                                            @RequestParam(defaultValue = "10") Integer size,
+                                            @RequestParam(required = false) String cursor,
+                                            HttpServletResponse response) {
         log.info("GET /users/{}/comments: получение комментариев пользователя", userId);
+        if (cursor != null) {
+            CursorPage<CommentDto> page = commentService.getUserCommentsByCursor(userId, cursor, size);
+            KeysetCursor.writeNextCursor(response, page);
+            return page.getItems();
+        }
         return commentService.getUserComments(userId, from, size);
     }
 
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.explorewithme.dto.CategoryDto;
 import ru.practicum.explorewithme.service.CategoryService;
 
@@ -22,14 +23,25 @@ public class PublicCategoryController {
 
     @GetMapping
     public List<CategoryDto> getCategories(@RequestParam(defaultValue = "0") Integer from,
-                                           @RequestParam(defaultValue = "10") Integer size) {
+                                           @RequestParam(defaultValue = "10") Integer size,
+                                           WebRequest request) {
         log.info("GET /categories: получение категорий from={}, size={}", from, size);
+        if (request.checkNotModified(etag())) {
+            return null;
+        }
         return categoryService.getCategories(from, size);
     }
 
     @GetMapping("/{catId}")
-    public CategoryDto getCategory(@PathVariable Long catId) {
+    public CategoryDto getCategory(@PathVariable Long catId, WebRequest request) {
         log.info("GET /categories/{}: получение категории", catId);
+        if (request.checkNotModified(etag())) {
+            return null;
+        }
         return categoryService.getCategoryById(catId);
     }
+
+    private String etag() {
+        return "\"categories-" + categoryService.getCategoriesVersion() + "\"";
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package ru.practicum.explorewithme.controller.publicapi;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,7 +10,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.explorewithme.dto.CommentDto;
 import ru.practicum.explorewithme.dto.CommentFullDto;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.service.CommentService;
+import ru.practicum.explorewithme.util.KeysetCursor;
 
 import java.util.List;
 
@@ -24,8 +27,15 @@ public class PublicCommentController {
     @GetMapping
     public List<CommentDto> getEventComments(@PathVariable Long eventId,
                                              @RequestParam(defaultValue = "0") Integer from,
-                                             @RequestParam(defaultValue = "10") Integer size) {
+                                             @RequestParam(defaultValue = "10") Integer size,
+                                             @RequestParam(required = false) String cursor,
+                                             HttpServletResponse response) {
         log.info("GET /events/{}/comments: получение комментариев события", eventId);
+        if (cursor != null) {
+            CursorPage<CommentDto> page = commentService.getEventCommentsByCursor(eventId, cursor, size);
+            KeysetCursor.writeNextCursor(response, page);
+            return page.getItems();
+        }
         return commentService.getEventComments(eventId, from, size);
     }
 
@@ -1,6 +1,7 @@
 package ru.practicum.explorewithme.controller.publicapi;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -9,9 +10,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.EventFullDto;
 import ru.practicum.explorewithme.dto.EventShortDto;
 import ru.practicum.explorewithme.service.EventService;
+import ru.practicum.explorewithme.util.KeysetCursor;
 import ru.practicum.stats.client.StatsClient;
 import ru.practicum.stats.dto.EndpointHit;
 
@@ -38,12 +41,21 @@ public class PublicEventController {
             @RequestParam(required = false) String sort,
             @RequestParam(defaultValue = "0") Integer from,
             @RequestParam(defaultValue = "10") Integer size,
-            HttpServletRequest request) {
+            @RequestParam(required = false) String cursor,
+            HttpServletRequest request,
+            HttpServletResponse response) {
 
         log.info("GET /events: публичный поиск событий text={}, categories={}", text, categories);
 
         saveHit(request);
 
+        if (cursor != null) {
+            CursorPage<EventShortDto> page = eventService.getEventsPublicByCursor(text, categories, paid,
+                    rangeStart, rangeEnd, onlyAvailable, sort, cursor, size);
+            KeysetCursor.writeNextCursor(response, page);
+            return page.getItems();
+        }
+
         return eventService.getEventsPublic(text, categories, paid, rangeStart, rangeEnd,
                 onlyAvailable, sort, from, size);
     }
@@ -16,6 +16,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import ru.practicum.explorewithme.model.enums.EventState;
 
 import java.time.LocalDateTime;
@@ -36,6 +38,7 @@ public class Event {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
+    @ToString.Exclude
     private Category category;
 
     @Column(name = "created_on", nullable = false)
@@ -79,6 +82,8 @@ public class Event {
     @Transient
     private Long views;
 
-    @Transient
-    private Long confirmedRequests;
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "confirmed_requests", nullable = false, updatable = false)
+    private Long confirmedRequests = 0L;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package ru.practicum.explorewithme.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "event_views", indexes = @Index(name = "idx_event_views_views", columnList = "views DESC, event_id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventViewCount {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "views", nullable = false)
+    private Long views;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
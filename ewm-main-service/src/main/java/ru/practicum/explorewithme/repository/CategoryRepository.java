@@ -1,5 +1,7 @@
 package ru.practicum.explorewithme.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ru.practicum.explorewithme.model.Category;
@@ -7,4 +9,6 @@ import ru.practicum.explorewithme.model.Category;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByName(String name);
+
+    Slice<Category> findAllBy(Pageable pageable);
 }
\ No newline at end of file
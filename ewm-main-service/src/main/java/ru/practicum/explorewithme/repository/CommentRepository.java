@@ -1,5 +1,6 @@
 package ru.practicum.explorewithme.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -24,6 +25,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByStatus(CommentStatus status, Pageable pageable);
 
+    List<Comment> findByEventIdAndStatusAndParentIsNullAndIdGreaterThanOrderByIdAsc(Long eventId,
+                                                                                   CommentStatus status,
+                                                                                   Long afterId, Limit limit);
+
+    List<Comment> findByAuthorIdAndStatusAndIdGreaterThanOrderByIdAsc(Long authorId, CommentStatus status,
+                                                                      Long afterId, Limit limit);
+
+    List<Comment> findByStatusAndIdGreaterThanOrderByIdAsc(CommentStatus status, Long afterId, Limit limit);
+
     Long countByEventIdAndStatus(Long eventId, CommentStatus status);
 
     Long countByParentIdAndStatus(Long parentId, CommentStatus status);
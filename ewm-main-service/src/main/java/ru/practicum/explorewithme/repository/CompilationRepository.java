@@ -1,13 +1,25 @@
 package ru.practicum.explorewithme.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.explorewithme.model.Compilation;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CompilationRepository extends JpaRepository<Compilation, Long> {
     List<Compilation> findByPinned(Boolean pinned, Pageable pageable);
+
+    Slice<Compilation> findAllBy(Pageable pageable);
+
+    List<Compilation> findByPinnedOrderByIdAsc(Boolean pinned);
+
+    @Query("SELECT c.id, e FROM Compilation c JOIN c.events e JOIN FETCH e.category JOIN FETCH e.initiator " +
+            "WHERE c.id IN :compIds")
+    List<Object[]> findEventsByCompilationIdIn(@Param("compIds") Collection<Long> compIds);
 }
\ No newline at end of file
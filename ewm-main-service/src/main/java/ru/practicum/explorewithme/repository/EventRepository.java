@@ -1,71 +1,97 @@
 package ru.practicum.explorewithme.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.enums.EventState;
+import ru.practicum.explorewithme.model.enums.RequestStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>,
+        EventSearchRepository, EventSliceRepository {
 
+    @EntityGraph(attributePaths = {"category", "initiator"})
     List<Event> findByInitiatorId(Long userId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"category", "initiator"})
+    List<Event> findByIdIn(Collection<Long> ids);
+
     Optional<Event> findByIdAndInitiatorId(Long eventId, Long userId);
 
     boolean existsByCategoryId(Long categoryId);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Event e SET e.confirmedRequests = e.confirmedRequests + :count " +
+            "WHERE e.id = :eventId " +
+            "AND (e.participantLimit = 0 OR e.confirmedRequests + :count <= e.participantLimit)")
+    int incrementConfirmedRequests(@Param("eventId") Long eventId, @Param("count") long count);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Event e SET e.confirmedRequests = e.confirmedRequests - :count " +
+            "WHERE e.id = :eventId AND e.confirmedRequests >= :count")
+    int decrementConfirmedRequests(@Param("eventId") Long eventId, @Param("count") long count);
+
+    @Query("SELECT e.id FROM Event e WHERE e.confirmedRequests <> " +
+            "(SELECT COUNT(r.id) FROM ParticipationRequest r WHERE r.event.id = e.id AND r.status = :status)")
+    List<Long> findIdsWithConfirmedRequestsDrift(@Param("status") RequestStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Event e SET e.confirmedRequests = " +
+            "(SELECT COUNT(r.id) FROM ParticipationRequest r WHERE r.event.id = e.id AND r.status = :status) " +
+            "WHERE e.id IN :eventIds")
+    int recountConfirmedRequests(@Param("eventIds") Collection<Long> eventIds,
+                                 @Param("status") RequestStatus status);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.id, e.annotation, e.description, e.category.id, e.paid, e.eventDate " +
+            "FROM Event e WHERE e.state = :state")
+    Stream<Object[]> streamSearchDocuments(@Param("state") EventState state);
+
     @Query(value = """
-    SELECT e.*, COALESCE(s.hits, 0) as view_count, 
-           (SELECT COUNT(*) FROM participation_requests pr 
-            WHERE pr.event_id = e.id AND pr.status = 'CONFIRMED') as confirmed_count
+    SELECT e.id, e.annotation, e.category_id, e.created_on, e.description, e.event_date,
+           e.initiator_id, e.lat, e.lon, e.paid, e.participant_limit, e.published_on,
+           e.request_moderation, e.title, COALESCE(v.views, 0) as view_count, e.confirmed_requests,
+           c.name as category_name, u.name as initiator_name
     FROM events e
-    LEFT JOIN (
-        SELECT 
-            uri,
-            COUNT(CASE WHEN :unique = false THEN 1 END) as hits_all,
-            COUNT(DISTINCT CASE WHEN :unique = true THEN ip END) as hits_unique
-        FROM endpoint_hits 
-        WHERE timestamp BETWEEN :statsStart AND :statsEnd
-        AND uri LIKE '/events/%'
-        GROUP BY uri
-    ) s ON s.uri = CONCAT('/events/', e.id)
+    JOIN categories c ON c.id = e.category_id
+    JOIN users u ON u.id = e.initiator_id
+    LEFT JOIN event_views v ON v.event_id = e.id
     WHERE e.state = 'PUBLISHED'
     AND (:categories IS NULL OR e.category_id IN (:categories))
-    AND (:text IS NULL OR 
-         LOWER(e.annotation) LIKE LOWER(CONCAT('%', :text, '%')) OR 
+    AND (:text IS NULL OR
+         LOWER(e.annotation) LIKE LOWER(CONCAT('%', :text, '%')) OR
          LOWER(e.description) LIKE LOWER(CONCAT('%', :text, '%')))
     AND (:paid IS NULL OR e.paid = :paid)
     AND e.event_date >= COALESCE(:rangeStart, CURRENT_TIMESTAMP)
     AND (:rangeEnd IS NULL OR e.event_date <= :rangeEnd)
-    AND (:onlyAvailable = false OR 
-         e.participant_limit = 0 OR 
-         (SELECT COUNT(*) FROM participation_requests pr 
-          WHERE pr.event_id = e.id AND pr.status = 'CONFIRMED') < e.participant_limit)
-    ORDER BY 
-        CASE WHEN :sort = 'EVENT_DATE' THEN e.event_date END ASC NULLS LAST,
-        CASE WHEN :sort = 'VIEWS' AND :unique = false THEN COALESCE(s.hits_all, 0) END DESC NULLS LAST,
-        CASE WHEN :sort = 'VIEWS' AND :unique = true THEN COALESCE(s.hits_unique, 0) END DESC NULLS LAST,
-        e.id ASC
+    AND (:onlyAvailable = false OR
+         e.participant_limit = 0 OR
+         e.confirmed_requests < e.participant_limit)
+    ORDER BY COALESCE(v.views, 0) DESC, e.id ASC
     LIMIT :size OFFSET :offset
     """, nativeQuery = true)
-    List<Object[]> findEventsPublicWithViewsNative(
+    List<Object[]> findEventsPublicSortedByViews(
             @Param("text") String text,
             @Param("categories") List<Long> categories,
             @Param("paid") Boolean paid,
             @Param("rangeStart") LocalDateTime rangeStart,
             @Param("rangeEnd") LocalDateTime rangeEnd,
             @Param("onlyAvailable") Boolean onlyAvailable,
-            @Param("sort") String sort,
-            @Param("unique") Boolean unique,
             @Param("offset") int offset,
-            @Param("size") int size,
-            @Param("statsStart") LocalDateTime statsStart,
-            @Param("statsEnd") LocalDateTime statsEnd);
+            @Param("size") int size);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package ru.practicum.explorewithme.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventSearchRepository {
+
+    List<Long> findPublishedIdsByRelevance(String text, List<Long> categories, Boolean paid,
+                                           LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                           boolean onlyAvailable, int offset, int size);
+}
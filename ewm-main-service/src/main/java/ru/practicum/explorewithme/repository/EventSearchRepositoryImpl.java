@@ -0,0 +1,87 @@
+package ru.practicum.explorewithme.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class EventSearchRepositoryImpl implements EventSearchRepository {
+
+    private static final String TS_QUERY = "websearch_to_tsquery('russian', :text)";
+    private static final String SUBSTRING_MATCH =
+            "LOWER(e.annotation) LIKE :pattern OR LOWER(e.description) LIKE :pattern";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public List<Long> findPublishedIdsByRelevance(String text, List<Long> categories, Boolean paid,
+                                                  LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                  boolean onlyAvailable, int offset, int size) {
+        boolean fullText = isPostgres();
+
+        StringBuilder sql = new StringBuilder("SELECT e.id FROM events e WHERE e.state = 'PUBLISHED'");
+        if (fullText) {
+            sql.append(" AND (e.search_vector @@ ").append(TS_QUERY).append(" OR ").append(SUBSTRING_MATCH).append(')');
+        } else {
+            sql.append(" AND (").append(SUBSTRING_MATCH).append(')');
+        }
+        if (categories != null && !categories.isEmpty()) {
+            sql.append(" AND e.category_id IN (:categories)");
+        }
+        if (paid != null) {
+            sql.append(" AND e.paid = :paid");
+        }
+        sql.append(" AND e.event_date >= :rangeStart");
+        if (rangeEnd != null) {
+            sql.append(" AND e.event_date <= :rangeEnd");
+        }
+        if (onlyAvailable) {
+            sql.append(" AND (e.participant_limit = 0 OR e.confirmed_requests < e.participant_limit)");
+        }
+        if (fullText) {
+            sql.append(" ORDER BY ts_rank(e.search_vector, ").append(TS_QUERY).append(") DESC, e.id");
+        } else {
+            sql.append(" ORDER BY CASE WHEN LOWER(e.annotation) LIKE :pattern THEN 0 ELSE 1 END, e.id");
+        }
+        sql.append(" LIMIT :size OFFSET :offset");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Long.class)
+                .setParameter("pattern", "%" + text.toLowerCase() + "%")
+                .setParameter("rangeStart", rangeStart)
+                .setParameter("size", size)
+                .setParameter("offset", offset);
+        if (fullText) {
+            query.setParameter("text", text);
+        }
+        if (categories != null && !categories.isEmpty()) {
+            query.setParameter("categories", categories);
+        }
+        if (paid != null) {
+            query.setParameter("paid", paid);
+        }
+        if (rangeEnd != null) {
+            query.setParameter("rangeEnd", rangeEnd);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Long> ids = query.getResultList();
+        return ids;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,11 @@
+package ru.practicum.explorewithme.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.explorewithme.model.Event;
+
+public interface EventSliceRepository {
+
+    Slice<Event> findSlice(Specification<Event> spec, Pageable pageable);
+}
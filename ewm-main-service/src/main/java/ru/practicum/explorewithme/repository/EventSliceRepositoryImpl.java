@@ -0,0 +1,47 @@
+package ru.practicum.explorewithme.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import ru.practicum.explorewithme.model.Event;
+
+import java.util.List;
+
+public class EventSliceRepositoryImpl implements EventSliceRepository {
+
+    private static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Event> findSlice(Specification<Event> spec, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> criteria = builder.createQuery(Event.class);
+        Root<Event> root = criteria.from(Event.class);
+        if (spec != null) {
+            criteria.where(spec.toPredicate(root, criteria, builder));
+        }
+        criteria.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        var graph = entityManager.createEntityGraph(Event.class);
+        graph.addAttributeNodes("category", "initiator");
+
+        TypedQuery<Event> query = entityManager.createQuery(criteria)
+                .setHint(FETCH_GRAPH, graph)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1);
+
+        List<Event> events = query.getResultList();
+        boolean hasNext = events.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? events.subList(0, pageable.getPageSize()) : events, pageable, hasNext);
+    }
+}
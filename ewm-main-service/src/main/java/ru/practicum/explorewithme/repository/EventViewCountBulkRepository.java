@@ -0,0 +1,14 @@
+package ru.practicum.explorewithme.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+public interface EventViewCountBulkRepository {
+
+    int upsertAll(Map<Long, Long> views, LocalDateTime refreshedAt);
+
+    int resetAll(Collection<Long> eventIds, LocalDateTime refreshedAt);
+
+    Map<Long, Long> findAllViews();
+}
@@ -0,0 +1,62 @@
+package ru.practicum.explorewithme.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class EventViewCountBulkRepositoryImpl implements EventViewCountBulkRepository {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String MERGE_SQL = """
+            MERGE INTO event_views v
+            USING (SELECT CAST(? AS BIGINT) AS event_id, CAST(? AS BIGINT) AS views) s
+            ON (v.event_id = s.event_id)
+            WHEN MATCHED THEN UPDATE SET views = s.views, updated_at = ?
+            WHEN NOT MATCHED THEN INSERT (event_id, views, updated_at) VALUES (s.event_id, s.views, ?)
+            """;
+    private static final String RESET_SQL = "UPDATE event_views SET views = 0, updated_at = ? " +
+            "WHERE event_id = ? AND views <> 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertAll(Map<Long, Long> views, LocalDateTime refreshedAt) {
+        List<Object[]> args = new ArrayList<>(views.size());
+        views.forEach((eventId, count) -> args.add(new Object[]{eventId, count, refreshedAt, refreshedAt}));
+        return batchUpdate(MERGE_SQL, args);
+    }
+
+    @Override
+    public int resetAll(Collection<Long> eventIds, LocalDateTime refreshedAt) {
+        List<Object[]> args = new ArrayList<>(eventIds.size());
+        eventIds.forEach(eventId -> args.add(new Object[]{refreshedAt, eventId}));
+        return batchUpdate(RESET_SQL, args);
+    }
+
+    @Override
+    public Map<Long, Long> findAllViews() {
+        Map<Long, Long> views = new HashMap<>();
+        jdbcTemplate.query("SELECT event_id, views FROM event_views", (RowCallbackHandler) rs ->
+                views.put(rs.getLong("event_id"), rs.getLong("views")));
+        return views;
+    }
+
+    private int batchUpdate(String sql, List<Object[]> args) {
+        int updated = 0;
+        for (int from = 0; from < args.size(); from += BATCH_SIZE) {
+            List<Object[]> chunk = args.subList(from, Math.min(from + BATCH_SIZE, args.size()));
+            for (int rows : jdbcTemplate.batchUpdate(sql, chunk)) {
+                updated += Math.max(rows, 0);
+            }
+        }
+        return updated;
+    }
+}
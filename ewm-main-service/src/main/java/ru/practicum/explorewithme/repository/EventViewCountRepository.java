@@ -0,0 +1,9 @@
+package ru.practicum.explorewithme.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import ru.practicum.explorewithme.model.EventViewCount;
+
+@Repository
+public interface EventViewCountRepository extends JpaRepository<EventViewCount, Long>, EventViewCountBulkRepository {
+}
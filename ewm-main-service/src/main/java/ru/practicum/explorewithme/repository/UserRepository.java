@@ -1,7 +1,11 @@
 package ru.practicum.explorewithme.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.explorewithme.model.User;
 
@@ -10,4 +14,13 @@ import java.util.List;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByIdIn(List<Long> ids, Pageable pageable);
+
+    Slice<User> findAllBy(Pageable pageable);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    List<User> findByIdInAndIdGreaterThanOrderByIdAsc(List<Long> ids, Long afterId, Limit limit);
+
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE LOWER(u.email) = LOWER(:email)")
+    boolean existsByEmailIgnoreCase(@Param("email") String email);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import ru.practicum.explorewithme.model.Event;
 import ru.practicum.explorewithme.model.enums.EventState;
+import ru.practicum.explorewithme.util.KeysetCursor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -66,6 +67,41 @@ public class EventSpecifications {
         };
     }
 
+    public static Specification<Event> isAvailable(Boolean onlyAvailable) {
+        return (root, query, cb) -> {
+            if (!Boolean.TRUE.equals(onlyAvailable)) {
+                return cb.conjunction();
+            }
+            return cb.or(
+                    cb.equal(root.get("participantLimit"), 0),
+                    cb.lessThan(root.get("confirmedRequests"), root.get("participantLimit").as(Long.class)));
+        };
+    }
+
+    public static Specification<Event> eventDateAfter(KeysetCursor after) {
+        return (root, query, cb) -> {
+            if (after == null) {
+                return cb.conjunction();
+            }
+            return cb.or(
+                    cb.greaterThan(root.get("eventDate"), after.getSortValue()),
+                    cb.and(cb.equal(root.get("eventDate"), after.getSortValue()),
+                            cb.greaterThan(root.get("id"), after.getId())));
+        };
+    }
+
+    public static Specification<Event> createdBefore(KeysetCursor after) {
+        return (root, query, cb) -> {
+            if (after == null) {
+                return cb.conjunction();
+            }
+            return cb.or(
+                    cb.lessThan(root.get("createdOn"), after.getSortValue()),
+                    cb.and(cb.equal(root.get("createdOn"), after.getSortValue()),
+                            cb.lessThan(root.get("id"), after.getId())));
+        };
+    }
+
     public static Specification<Event> hasUsers(List<Long> users) {
         return (root, query, cb) -> {
             if (users == null || users.isEmpty()) {
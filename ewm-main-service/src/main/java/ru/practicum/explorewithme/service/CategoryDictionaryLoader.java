@@ -0,0 +1,31 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryDictionaryLoader implements ApplicationRunner {
+
+    private final CategoryDictionaryService categoryDictionaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${ewm.categories.dictionary.refresh-interval:PT5M}",
+            initialDelayString = "${ewm.categories.dictionary.refresh-interval:PT5M}")
+    public void reload() {
+        try {
+            categoryDictionaryService.reload();
+        } catch (Exception e) {
+            log.error("Ошибка при загрузке справочника категорий: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.explorewithme.service;
+
+import ru.practicum.explorewithme.dto.CategoryDto;
+import ru.practicum.explorewithme.model.Category;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CategoryDictionaryService {
+
+    int reload();
+
+    Optional<CategoryDto> find(Long categoryId);
+
+    List<CategoryDto> getPage(int from, int size);
+
+    String getVersion();
+
+    void onCategorySaved(Category category);
+
+    void onCategoryDeleted(Long categoryId);
+}
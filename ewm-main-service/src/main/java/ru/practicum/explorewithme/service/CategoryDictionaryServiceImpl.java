@@ -0,0 +1,166 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.explorewithme.dto.CategoryDto;
+import ru.practicum.explorewithme.mapper.CategoryMapper;
+import ru.practicum.explorewithme.model.Category;
+import ru.practicum.explorewithme.repository.CategoryRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryDictionaryServiceImpl implements CategoryDictionaryService {
+
+    private final CategoryRepository categoryRepository;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Override
+    public int reload() {
+        lock.lock();
+        try {
+            Map<Long, String> names = new TreeMap<>();
+            categoryRepository.findAll().forEach(category -> names.put(category.getId(), category.getName()));
+            snapshot = new Snapshot(names);
+            log.info("Справочник категорий загружен: категорий {}, версия {}", names.size(), snapshot.version);
+            return names.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<CategoryDto> find(Long categoryId) {
+        String name = snapshot().names.get(categoryId);
+        if (name != null) {
+            return Optional.of(new CategoryDto(categoryId, name));
+        }
+        return categoryRepository.findById(categoryId).map(CategoryMapper::toCategoryDto);
+    }
+
+    @Override
+    public List<CategoryDto> getPage(int from, int size) {
+        Snapshot current = snapshot();
+        int start = Math.min(from, current.ids.size());
+        int end = (int) Math.min((long) start + size, current.ids.size());
+
+        List<CategoryDto> page = new ArrayList<>(end - start);
+        for (Long id : current.ids.subList(start, end)) {
+            page.add(new CategoryDto(id, current.names.get(id)));
+        }
+        return page;
+    }
+
+    @Override
+    public String getVersion() {
+        return snapshot().version;
+    }
+
+    @Override
+    public void onCategorySaved(Category category) {
+        Long id = category.getId();
+        String name = category.getName();
+        apply(names -> names.put(id, name));
+    }
+
+    @Override
+    public void onCategoryDeleted(Long categoryId) {
+        apply(names -> names.remove(categoryId));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            lock.lock();
+            try {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+        List<Consumer<Map<Long, String>>> pending = pendingChanges();
+        if (pending == null || pending.isEmpty()) {
+            return current;
+        }
+        Map<Long, String> names = new TreeMap<>(current.names);
+        pending.forEach(change -> change.accept(names));
+        return new Snapshot(names);
+    }
+
+    private void apply(Consumer<Map<Long, String>> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(List.of(change));
+            return;
+        }
+        List<Consumer<Map<Long, String>>> pending = pendingChanges();
+        if (pending == null) {
+            List<Consumer<Map<Long, String>>> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CategoryDictionaryServiceImpl.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Consumer<Map<Long, String>>> pendingChanges() {
+        return (List<Consumer<Map<Long, String>>>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private void update(List<Consumer<Map<Long, String>>> changes) {
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                return;
+            }
+            Map<Long, String> names = new TreeMap<>(snapshot.names);
+            changes.forEach(change -> change.accept(names));
+            snapshot = new Snapshot(names);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, String> names;
+        private final List<Long> ids;
+        private final String version;
+
+        private Snapshot(Map<Long, String> names) {
+            this.names = Collections.unmodifiableMap(names);
+            this.ids = List.copyOf(names.keySet());
+
+            CRC32 checksum = new CRC32();
+            names.forEach((id, name) -> checksum.update((id + ":" + name + "\n").getBytes(StandardCharsets.UTF_8)));
+            this.version = Long.toHexString(checksum.getValue()) + "-" + names.size();
+        }
+    }
+}
@@ -15,4 +15,6 @@ public interface CategoryService {
     List<CategoryDto> getCategories(Integer from, Integer size);
 
     CategoryDto getCategoryById(Long categoryId);
+
+    String getCategoriesVersion();
 }
\ No newline at end of file
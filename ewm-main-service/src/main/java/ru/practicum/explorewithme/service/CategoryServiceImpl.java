@@ -2,7 +2,6 @@ package ru.practicum.explorewithme.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +16,6 @@ import ru.practicum.explorewithme.repository.EventRepository;
 import ru.practicum.explorewithme.util.PaginationUtil;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -27,6 +25,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final EventRepository eventRepository;
+    private final CategoryDictionaryService categoryDictionaryService;
 
     @Override
     @Transactional
@@ -38,6 +37,7 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = CategoryMapper.toCategory(newCategoryDto);
         Category savedCategory = categoryRepository.save(category);
         log.info("Создана категория: {}", savedCategory);
+        categoryDictionaryService.onCategorySaved(savedCategory);
         return CategoryMapper.toCategoryDto(savedCategory);
     }
 
@@ -55,6 +55,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setName(categoryDto.getName());
         Category updatedCategory = categoryRepository.save(category);
         log.info("Обновлена категория: {}", updatedCategory);
+        categoryDictionaryService.onCategorySaved(updatedCategory);
         return CategoryMapper.toCategoryDto(updatedCategory);
     }
 
@@ -71,22 +72,24 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryRepository.deleteById(categoryId);
         log.info("Удалена категория с id={}", categoryId);
+        categoryDictionaryService.onCategoryDeleted(categoryId);
     }
 
     @Override
     public List<CategoryDto> getCategories(Integer from, Integer size) {
         Pageable pageable = PaginationUtil.createPageRequest(from, size);
 
-        return categoryRepository.findAll(pageable).getContent()
-                .stream()
-                .map(CategoryMapper::toCategoryDto)
-                .collect(Collectors.toList());
+        return categoryDictionaryService.getPage((int) pageable.getOffset(), pageable.getPageSize());
     }
 
     @Override
     public CategoryDto getCategoryById(Long categoryId) {
-        Category category = categoryRepository.findById(categoryId)
+        return categoryDictionaryService.find(categoryId)
                 .orElseThrow(() -> new NotFoundException("Категория с id=" + categoryId + " не найдена"));
-        return CategoryMapper.toCategoryDto(category);
+    }
+
+    @Override
+    public String getCategoriesVersion() {
+        return categoryDictionaryService.getVersion();
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package ru.practicum.explorewithme.service;
 import ru.practicum.explorewithme.dto.CommentDto;
 import ru.practicum.explorewithme.dto.CommentFullDto;
 import ru.practicum.explorewithme.dto.CommentModerationRequest;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.NewCommentDto;
 import ru.practicum.explorewithme.dto.UpdateCommentDto;
 import ru.practicum.explorewithme.model.enums.CommentStatus;
@@ -13,6 +14,8 @@ public interface CommentService {
 
     List<CommentDto> getEventComments(Long eventId, Integer from, Integer size);
 
+    CursorPage<CommentDto> getEventCommentsByCursor(Long eventId, String cursor, Integer size);
+
     CommentFullDto getCommentWithReplies(Long commentId, Integer from, Integer size);
 
     CommentDto createComment(Long userId, Long eventId, NewCommentDto newCommentDto);
@@ -23,8 +26,12 @@ public interface CommentService {
 
     List<CommentDto> getUserComments(Long userId, Integer from, Integer size);
 
+    CursorPage<CommentDto> getUserCommentsByCursor(Long userId, String cursor, Integer size);
+
     List<CommentDto> getCommentsForModeration(CommentStatus status, Integer from, Integer size);
 
+    CursorPage<CommentDto> getCommentsForModerationByCursor(CommentStatus status, String cursor, Integer size);
+
     CommentDto moderateComment(Long commentId, CommentModerationRequest moderationRequest);
 
     void restrictCommentEditing(Long commentId, String restrictionReason);
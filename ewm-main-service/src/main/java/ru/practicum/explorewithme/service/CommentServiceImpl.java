@@ -2,12 +2,14 @@ package ru.practicum.explorewithme.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.explorewithme.dto.CommentDto;
 import ru.practicum.explorewithme.dto.CommentFullDto;
 import ru.practicum.explorewithme.dto.CommentModerationRequest;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.NewCommentDto;
 import ru.practicum.explorewithme.dto.UpdateCommentDto;
 import ru.practicum.explorewithme.exception.ConflictException;
@@ -21,10 +23,12 @@ import ru.practicum.explorewithme.model.enums.EventState;
 import ru.practicum.explorewithme.repository.CommentRepository;
 import ru.practicum.explorewithme.repository.EventRepository;
 import ru.practicum.explorewithme.repository.UserRepository;
+import ru.practicum.explorewithme.util.KeysetCursor;
 import ru.practicum.explorewithme.util.PaginationUtil;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -55,6 +59,15 @@ public class CommentServiceImpl implements CommentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<CommentDto> getEventCommentsByCursor(Long eventId, String cursor, Integer size) {
+        int limit = PaginationUtil.normalizeSize(size);
+        List<Comment> comments = commentRepository.findByEventIdAndStatusAndParentIsNullAndIdGreaterThanOrderByIdAsc(
+                eventId, CommentStatus.PUBLISHED, afterId(cursor), Limit.of(limit));
+
+        return toCursorPage(comments, limit, this::toCommentDtoWithReplies);
+    }
+
     @Override
     public CommentFullDto getCommentWithReplies(Long commentId, Integer from, Integer size) {
         Comment comment = commentRepository.findById(commentId)
@@ -194,6 +207,18 @@ public class CommentServiceImpl implements CommentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<CommentDto> getUserCommentsByCursor(Long userId, String cursor, Integer size) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User with id=" + userId + " not found"));
+
+        int limit = PaginationUtil.normalizeSize(size);
+        List<Comment> comments = commentRepository.findByAuthorIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                userId, CommentStatus.PUBLISHED, afterId(cursor), Limit.of(limit));
+
+        return toCursorPage(comments, limit, this::toCommentDtoWithReplies);
+    }
+
     @Override
     public List<CommentDto> getCommentsForModeration(CommentStatus status, Integer from, Integer size) {
         Pageable pageable = PaginationUtil.createPageRequest(from, size);
@@ -205,6 +230,16 @@ public class CommentServiceImpl implements CommentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<CommentDto> getCommentsForModerationByCursor(CommentStatus status, String cursor,
+                                                                   Integer size) {
+        int limit = PaginationUtil.normalizeSize(size);
+        List<Comment> comments = commentRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                status, afterId(cursor), Limit.of(limit));
+
+        return toCursorPage(comments, limit, comment -> CommentMapper.toCommentDto(comment, 0));
+    }
+
     @Override
     @Transactional
     public CommentDto moderateComment(Long commentId, CommentModerationRequest moderationRequest) {
@@ -264,4 +299,23 @@ public class CommentServiceImpl implements CommentService {
             throw new ConflictException("Edit window has expired (30 days limit)");
         }
     }
-}
\ No newline at end of file
+
+    private CommentDto toCommentDtoWithReplies(Comment comment) {
+        Integer repliesCount = commentRepository.countByParentIdAndStatus(
+                comment.getId(), CommentStatus.PUBLISHED).intValue();
+        return CommentMapper.toCommentDto(comment, repliesCount);
+    }
+
+    private Long afterId(String cursor) {
+        KeysetCursor after = KeysetCursor.decode(cursor, false);
+        return after != null ? after.getId() : 0L;
+    }
+
+    private CursorPage<CommentDto> toCursorPage(List<Comment> comments, int limit,
+                                                Function<Comment, CommentDto> mapper) {
+        String nextCursor = comments.size() == limit
+                ? KeysetCursor.encode(comments.get(comments.size() - 1).getId())
+                : null;
+        return new CursorPage<>(comments.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.Value;
+import ru.practicum.explorewithme.dto.CompilationDto;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public interface CompilationCacheService {
+
+    CompilationDto getCompilation(Long compId, Supplier<CachedCompilation> loader);
+
+    List<CompilationDto> getPinned(Supplier<List<CachedCompilation>> loader);
+
+    void onCompilationChanged(Long compId);
+
+    void onEventChanged(Long eventId);
+
+    @Value
+    class CachedCompilation {
+        CompilationDto compilation;
+        Set<Long> eventIds;
+    }
+}
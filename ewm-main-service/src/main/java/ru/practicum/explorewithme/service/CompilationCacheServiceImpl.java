@@ -0,0 +1,159 @@
+package ru.practicum.explorewithme.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.explorewithme.dto.CompilationDto;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service
+public class CompilationCacheServiceImpl implements CompilationCacheService, MeterBinder {
+
+    private final Cache<Long, CachedCompilation> compilations;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile PinnedCompilations pinned;
+
+    public CompilationCacheServiceImpl(@Value("${ewm.compilations-cache.enabled:true}") boolean enabled,
+                                       @Value("${ewm.compilations-cache.ttl:1m}") Duration ttl,
+                                       @Value("${ewm.compilations-cache.maximum-size:1000}") long maximumSize) {
+        this.compilations = enabled
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build()
+                : null;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public CompilationDto getCompilation(Long compId, Supplier<CachedCompilation> loader) {
+        if (compilations == null) {
+            return loader.get().getCompilation();
+        }
+        CachedCompilation cached = compilations.getIfPresent(compId);
+        if (cached != null) {
+            return cached.getCompilation();
+        }
+
+        long loadedAt = generation.get();
+        CachedCompilation loaded = loader.get();
+        if (isCacheable(loadedAt)) {
+            compilations.put(compId, loaded);
+            if (generation.get() != loadedAt) {
+                compilations.invalidate(compId);
+            }
+        }
+        return loaded.getCompilation();
+    }
+
+    @Override
+    public List<CompilationDto> getPinned(Supplier<List<CachedCompilation>> loader) {
+        if (compilations == null) {
+            return toDtos(loader.get());
+        }
+        PinnedCompilations current = pinned;
+        if (current != null && System.nanoTime() - current.loadedAt < ttlNanos) {
+            return current.compilations;
+        }
+
+        long loadedAt = generation.get();
+        List<CachedCompilation> loaded = loader.get();
+        PinnedCompilations refreshed = new PinnedCompilations(loaded);
+        if (isCacheable(loadedAt)) {
+            pinned = refreshed;
+            if (generation.get() != loadedAt) {
+                pinned = null;
+            }
+        }
+        return refreshed.compilations;
+    }
+
+    @Override
+    public void onCompilationChanged(Long compId) {
+        if (compilations == null) {
+            return;
+        }
+        invalidate(() -> {
+            compilations.invalidate(compId);
+            pinned = null;
+        });
+    }
+
+    @Override
+    public void onEventChanged(Long eventId) {
+        if (compilations == null) {
+            return;
+        }
+        invalidate(() -> {
+            compilations.asMap().values().removeIf(cached -> cached.getEventIds().contains(eventId));
+            PinnedCompilations current = pinned;
+            if (current != null && current.eventIds.contains(eventId)) {
+                pinned = null;
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (compilations != null) {
+            CaffeineCacheMetrics.monitor(registry, compilations, "compilations");
+        }
+    }
+
+    private void invalidate(Runnable eviction) {
+        generation.incrementAndGet();
+        eviction.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CompilationCacheServiceImpl.this);
+                }
+            });
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                generation.incrementAndGet();
+                eviction.run();
+            }
+        });
+    }
+
+    private boolean isCacheable(long loadedAt) {
+        return generation.get() == loadedAt && !TransactionSynchronizationManager.hasResource(this);
+    }
+
+    private static List<CompilationDto> toDtos(List<CachedCompilation> cached) {
+        return cached.stream().map(CachedCompilation::getCompilation).toList();
+    }
+
+    private static final class PinnedCompilations {
+        private final List<CompilationDto> compilations;
+        private final Set<Long> eventIds = new HashSet<>();
+        private final long loadedAt = System.nanoTime();
+
+        private PinnedCompilations(List<CachedCompilation> cached) {
+            this.compilations = toDtos(cached);
+            cached.forEach(compilation -> eventIds.addAll(compilation.getEventIds()));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.explorewithme.dto.CompilationDto;
@@ -24,8 +25,11 @@ import ru.practicum.explorewithme.util.PaginationUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -37,6 +41,8 @@ public class CompilationServiceImpl implements CompilationService {
 
     private final CompilationRepository compilationRepository;
     private final EventRepository eventRepository;
+    private final EventViewsService eventViewsService;
+    private final CompilationCacheService compilationCacheService;
 
     @Override
     @Transactional
@@ -59,6 +65,7 @@ public class CompilationServiceImpl implements CompilationService {
 
         Compilation savedCompilation = compilationRepository.save(compilation);
         log.info("Создана подборка: {}", savedCompilation);
+        compilationCacheService.onCompilationChanged(savedCompilation.getId());
 
         List<EventShortDto> eventDtos = new ArrayList<>();
 
@@ -107,6 +114,7 @@ public class CompilationServiceImpl implements CompilationService {
 
         Compilation updatedCompilation = compilationRepository.save(compilation);
         log.info("Обновлена подборка: {}", updatedCompilation);
+        compilationCacheService.onCompilationChanged(compId);
 
         List<EventShortDto> eventDtos;
         if (!updatedCompilation.getEvents().isEmpty()) {
@@ -135,61 +143,81 @@ public class CompilationServiceImpl implements CompilationService {
         }
         compilationRepository.deleteById(compId);
         log.info("Удалена подборка с id={}", compId);
+        compilationCacheService.onCompilationChanged(compId);
     }
 
     @Override
     public List<CompilationDto> getCompilations(Boolean pinned, Integer from, Integer size) {
-        Pageable pageable = PaginationUtil.createPageRequest(from, size);
+        Pageable pageable = PaginationUtil.createPageRequest(from, size, Sort.by("id"));
+
+        if (Boolean.TRUE.equals(pinned)) {
+            List<CompilationDto> compilations = compilationCacheService.getPinned(() ->
+                    toCachedCompilations(compilationRepository.findByPinnedOrderByIdAsc(true)));
+            int start = (int) Math.min(pageable.getOffset(), compilations.size());
+            int end = Math.min(start + pageable.getPageSize(), compilations.size());
+            return compilations.subList(start, end);
+        }
 
         List<Compilation> compilations;
-
         if (pinned != null) {
             compilations = compilationRepository.findByPinned(pinned, pageable);
         } else {
-            compilations = compilationRepository.findAll(pageable).getContent();
+            compilations = compilationRepository.findAllBy(pageable).getContent();
         }
 
-        return compilations.stream()
-                .map(compilation -> {
-                    List<EventShortDto> eventDtos;
-                    if (!compilation.getEvents().isEmpty()) {
-                        eventDtos = compilation.getEvents().stream()
-                                .filter(event -> event.getState() == EventState.PUBLISHED)
-                                .map(event -> {
-                                    EventShortDto dto = EventMapper.toEventShortDto(event);
-                                    dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
-                                    dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
-                                    return dto;
-                                })
-                                .collect(Collectors.toList());
-                    } else {
-                        eventDtos = Collections.emptyList();
-                    }
-                    return CompilationMapper.toCompilationDto(compilation, eventDtos);
-                })
+        return toCachedCompilations(compilations).stream()
+                .map(CompilationCacheService.CachedCompilation::getCompilation)
                 .collect(Collectors.toList());
     }
 
     @Override
     public CompilationDto getCompilationById(Long compId) {
-        Compilation compilation = compilationRepository.findById(compId)
-                .orElseThrow(() -> new NotFoundException("Подборка с id=" + compId + " не найдена"));
+        return compilationCacheService.getCompilation(compId, () -> {
+            Compilation compilation = compilationRepository.findById(compId)
+                    .orElseThrow(() -> new NotFoundException("Подборка с id=" + compId + " не найдена"));
+            return toCachedCompilations(List.of(compilation)).get(0);
+        });
+    }
 
-        List<EventShortDto> eventDtos;
-        if (!compilation.getEvents().isEmpty()) {
-            eventDtos = compilation.getEvents().stream()
-                    .filter(event -> event.getState() == EventState.PUBLISHED)
-                    .map(event -> {
-                        EventShortDto dto = EventMapper.toEventShortDto(event);
-                        dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
-                        dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
-                        return dto;
-                    })
-                    .collect(Collectors.toList());
-        } else {
-            eventDtos = Collections.emptyList();
+    private List<CompilationCacheService.CachedCompilation> toCachedCompilations(List<Compilation> compilations) {
+        if (compilations.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Event>> eventsByCompilation = new HashMap<>();
+        for (Object[] row : compilationRepository.findEventsByCompilationIdIn(
+                compilations.stream().map(Compilation::getId).toList())) {
+            eventsByCompilation.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Event) row[1]);
         }
 
-        return CompilationMapper.toCompilationDto(compilation, eventDtos);
+        List<Long> publishedIds = eventsByCompilation.values().stream()
+                .flatMap(List::stream)
+                .filter(event -> event.getState() == EventState.PUBLISHED)
+                .map(Event::getId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Long> views = eventViewsService.getViews(publishedIds);
+
+        return compilations.stream()
+                .map(compilation -> {
+                    List<Event> events = eventsByCompilation.getOrDefault(compilation.getId(), List.of());
+                    List<EventShortDto> eventDtos = events.stream()
+                            .filter(event -> event.getState() == EventState.PUBLISHED)
+                            .sorted(Comparator.comparing(Event::getId))
+                            .map(event -> {
+                                EventShortDto dto = EventMapper.toEventShortDto(event);
+                                dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
+                                dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
+                                dto.setViews(views.getOrDefault(event.getId(), 0L));
+                                return dto;
+                            })
+                            .collect(Collectors.toList());
+                    Set<Long> eventIds = events.stream()
+                            .map(Event::getId)
+                            .collect(Collectors.toSet());
+                    return new CompilationCacheService.CachedCompilation(
+                            CompilationMapper.toCompilationDto(compilation, eventDtos), eventIds);
+                })
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ewm.confirmed-requests.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class ConfirmedRequestsReconciler implements ApplicationRunner {
+
+    private final ConfirmedRequestsService confirmedRequestsService;
+
+    @Value("${ewm.confirmed-requests.reconcile.on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ewm.confirmed-requests.reconcile.interval:PT10M}",
+            initialDelayString = "${ewm.confirmed-requests.reconcile.interval:PT10M}")
+    public void reconcile() {
+        try {
+            confirmedRequestsService.reconcile();
+        } catch (Exception e) {
+            log.error("Ошибка при сверке счётчиков подтверждённых заявок: {}", e.getMessage(), e);
+        }
+    }
+}
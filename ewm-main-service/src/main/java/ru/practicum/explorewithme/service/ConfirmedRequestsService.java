@@ -0,0 +1,10 @@
+package ru.practicum.explorewithme.service;
+
+public interface ConfirmedRequestsService {
+
+    void addConfirmed(Long eventId, long count);
+
+    void removeConfirmed(Long eventId, long count);
+
+    int reconcile();
+}
@@ -0,0 +1,52 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.explorewithme.exception.ConflictException;
+import ru.practicum.explorewithme.model.enums.RequestStatus;
+import ru.practicum.explorewithme.repository.EventRepository;
+
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class ConfirmedRequestsServiceImpl implements ConfirmedRequestsService {
+
+    private final EventRepository eventRepository;
+
+    @Override
+    public void addConfirmed(Long eventId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        if (eventRepository.incrementConfirmedRequests(eventId, count) == 0) {
+            throw new ConflictException("Достигнут лимит запросов на участие");
+        }
+    }
+
+    @Override
+    public void removeConfirmed(Long eventId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        if (eventRepository.decrementConfirmedRequests(eventId, count) == 0) {
+            log.warn("Счётчик подтверждённых заявок события {} меньше {}, требуется сверка", eventId, count);
+        }
+    }
+
+    @Override
+    public int reconcile() {
+        List<Long> driftedIds = eventRepository.findIdsWithConfirmedRequestsDrift(RequestStatus.CONFIRMED);
+        if (driftedIds.isEmpty()) {
+            return 0;
+        }
+
+        int repaired = eventRepository.recountConfirmedRequests(driftedIds, RequestStatus.CONFIRMED);
+        log.warn("Исправлены счётчики подтверждённых заявок для событий: {}", driftedIds);
+        return repaired;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.explorewithme.service;
+
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface EventEnrichmentService {
+
+    EventEnrichment start(List<Long> eventIds, @Nullable LocalDateTime statsStart, @Nullable LocalDateTime statsEnd);
+
+    interface EventEnrichment {
+
+        Map<Long, Long> getViews();
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.explorewithme.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class EventEnrichmentServiceImpl implements EventEnrichmentService, MeterBinder {
+
+    private static final String VIEWS = "views";
+
+    private final EventViewsService eventViewsService;
+    private final long deadlineNanos;
+    private final AtomicLong viewsTimeouts = new AtomicLong();
+
+    public EventEnrichmentServiceImpl(EventViewsService eventViewsService,
+                                      @Value("${ewm.enrichment.deadline:500ms}") Duration deadline) {
+        this.eventViewsService = eventViewsService;
+        this.deadlineNanos = deadline.toNanos();
+    }
+
+    @Override
+    public EventEnrichment start(List<Long> eventIds, @Nullable LocalDateTime statsStart,
+                                 @Nullable LocalDateTime statsEnd) {
+        long deadline = System.nanoTime() + deadlineNanos;
+        CompletableFuture<Map<Long, Long>> views = statsStart == null && statsEnd == null
+                ? eventViewsService.getViewsAsync(eventIds)
+                : eventViewsService.getViewsAsync(eventIds, statsStart, statsEnd);
+
+        Pending<Map<Long, Long>> pendingViews = new Pending<>(VIEWS, views, deadline, viewsTimeouts,
+                () -> eventIds.stream().distinct().collect(Collectors.toMap(id -> id, id -> 0L)));
+        return pendingViews::get;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ewm.events.enrichment.timeouts", viewsTimeouts, AtomicLong::get)
+                .tag("enrichment", VIEWS)
+                .description("Event enrichments replaced by defaults after the shared deadline")
+                .register(registry);
+    }
+
+    private static final class Pending<T> {
+        private final String name;
+        private final CompletableFuture<T> future;
+        private final long deadline;
+        private final AtomicLong timeouts;
+        private final Supplier<T> defaults;
+        private T value;
+
+        private Pending(String name, CompletableFuture<T> future, long deadline, AtomicLong timeouts,
+                        Supplier<T> defaults) {
+            this.name = name;
+            this.future = future;
+            this.deadline = deadline;
+            this.timeouts = timeouts;
+            this.defaults = defaults;
+        }
+
+        private T get() {
+            if (value == null) {
+                value = await();
+            }
+            return value;
+        }
+
+        private T await() {
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                timeouts.incrementAndGet();
+                log.warn("Обогащение событий '{}' не уложилось в отведённое время, используются значения по умолчанию",
+                        name);
+            } catch (ExecutionException e) {
+                log.error("Ошибка при обогащении событий '{}': {}", name, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return defaults.get();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.Builder;
+import lombok.Value;
+import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.enums.EventState;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+class EventSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<Long, Integer> slotsByEventId = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final BitSet paid = new BitSet();
+    private long[] eventIds = new long[INITIAL_CAPACITY];
+    private long[] categoryIds = new long[INITIAL_CAPACITY];
+    private long[] eventDates = new long[INITIAL_CAPACITY];
+    private String[] annotations = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private int slots;
+
+    void apply(Document document) {
+        if (document.isPublished()) {
+            put(document);
+        } else {
+            remove(document.getEventId());
+        }
+    }
+
+    void put(Document document) {
+        remove(document.getEventId());
+
+        int slot = slots++;
+        ensureCapacity(slots);
+        eventIds[slot] = document.getEventId();
+        categoryIds[slot] = document.getCategoryId();
+        eventDates[slot] = toEpochSecond(document.getEventDate());
+        annotations[slot] = normalize(document.getAnnotation());
+        descriptions[slot] = normalize(document.getDescription());
+        paid.set(slot, document.isPaid());
+        live.set(slot);
+        slotsByEventId.put(document.getEventId(), slot);
+
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, annotations[slot]);
+        addGrams(grams, descriptions[slot]);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(slot);
+        }
+    }
+
+    void remove(long eventId) {
+        Integer slot = slotsByEventId.remove(eventId);
+        if (slot != null) {
+            live.clear(slot);
+            annotations[slot] = null;
+            descriptions[slot] = null;
+        }
+    }
+
+    int size() {
+        return slotsByEventId.size();
+    }
+
+    int terms() {
+        return postings.size();
+    }
+
+    List<Long> search(String text, Collection<Long> categories, Boolean paidFilter, LocalDateTime rangeStart,
+                      LocalDateTime rangeEnd, boolean sortByEventDate, int from, int size) {
+        BitSet matches = text == null || text.isEmpty() ? (BitSet) live.clone() : match(normalize(text));
+
+        Set<Long> categoryFilter = categories == null || categories.isEmpty() ? null : new HashSet<>(categories);
+        long start = rangeStart != null ? toEpochSecond(rangeStart) : Long.MIN_VALUE;
+        long end = rangeEnd != null ? toEpochSecond(rangeEnd) : Long.MAX_VALUE;
+
+        Comparator<Integer> order = order(sortByEventDate);
+        int needed = (int) Math.min((long) from + size, Integer.MAX_VALUE);
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(needed, 1024) + 1, order.reversed());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (categoryFilter != null && !categoryFilter.contains(categoryIds[slot])) {
+                continue;
+            }
+            if (paidFilter != null && paid.get(slot) != paidFilter) {
+                continue;
+            }
+            if (eventDates[slot] < start || eventDates[slot] > end) {
+                continue;
+            }
+            if (top.size() < needed) {
+                top.add(slot);
+            } else if (order.compare(slot, top.peek()) < 0) {
+                top.poll();
+                top.add(slot);
+            }
+        }
+
+        List<Integer> ordered = new ArrayList<>(top);
+        ordered.sort(order);
+
+        List<Long> result = new ArrayList<>(Math.max(0, ordered.size() - from));
+        for (int i = from; i < ordered.size(); i++) {
+            result.add(eventIds[ordered.get(i)]);
+        }
+        return result;
+    }
+
+    long memoryFootprintBytes() {
+        long bytes = 5L * 8 * eventIds.length + (live.size() + paid.size()) / 8;
+        bytes += 64L * slotsByEventId.size();
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            bytes += 2L * (annotations[slot].length() + descriptions[slot].length());
+        }
+        for (Postings gramPostings : postings.values()) {
+            bytes += 96 + 4L * gramPostings.entries.length;
+        }
+        return bytes;
+    }
+
+    private BitSet match(String phrase) {
+        BitSet phraseMatches = new BitSet(slots);
+        if (phrase.length() < GRAM) {
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                if (contains(slot, phrase)) {
+                    phraseMatches.set(slot);
+                }
+            }
+            return phraseMatches;
+        }
+
+        Postings rarest = null;
+        for (int i = 0; i + GRAM <= phrase.length(); i++) {
+            Postings gramPostings = postings.get(phrase.substring(i, i + GRAM));
+            if (gramPostings == null) {
+                return phraseMatches;
+            }
+            if (rarest == null || gramPostings.size < rarest.size) {
+                rarest = gramPostings;
+            }
+        }
+        for (int i = 0; i < rarest.size; i++) {
+            int slot = rarest.entries[i];
+            if (live.get(slot) && contains(slot, phrase)) {
+                phraseMatches.set(slot);
+            }
+        }
+        return phraseMatches;
+    }
+
+    private boolean contains(int slot, String phrase) {
+        return annotations[slot].contains(phrase) || descriptions[slot].contains(phrase);
+    }
+
+    private Comparator<Integer> order(boolean sortByEventDate) {
+        Comparator<Integer> byEventId = Comparator.comparingLong(slot -> eventIds[slot]);
+        if (sortByEventDate) {
+            return Comparator.<Integer>comparingLong(slot -> eventDates[slot]).thenComparing(byEventId);
+        }
+        return byEventId;
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > eventIds.length) {
+            int newLength = Math.max(capacity, eventIds.length * 2);
+            eventIds = Arrays.copyOf(eventIds, newLength);
+            categoryIds = Arrays.copyOf(categoryIds, newLength);
+            eventDates = Arrays.copyOf(eventDates, newLength);
+            annotations = Arrays.copyOf(annotations, newLength);
+            descriptions = Arrays.copyOf(descriptions, newLength);
+        }
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static final class Postings {
+        private int[] entries = new int[2];
+        private int size;
+
+        private void add(int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+    }
+
+    @Value
+    @Builder
+    static class Document {
+        long eventId;
+        String annotation;
+        String description;
+        long categoryId;
+        boolean paid;
+        LocalDateTime eventDate;
+        boolean published;
+
+        static Document of(Event event) {
+            return Document.builder()
+                    .eventId(event.getId())
+                    .annotation(event.getAnnotation())
+                    .description(event.getDescription())
+                    .categoryId(event.getCategory().getId())
+                    .paid(Boolean.TRUE.equals(event.getPaid()))
+                    .eventDate(event.getEventDate())
+                    .published(event.getState() == EventState.PUBLISHED)
+                    .build();
+        }
+    }
+}
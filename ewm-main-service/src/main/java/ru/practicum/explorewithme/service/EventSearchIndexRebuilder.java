@@ -0,0 +1,33 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ewm.event-search.in-memory.enabled", havingValue = "true")
+public class EventSearchIndexRebuilder implements ApplicationRunner {
+
+    private final EventSearchIndexService eventSearchIndexService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${ewm.event-search.in-memory.rebuild-interval:PT1H}",
+            initialDelayString = "${ewm.event-search.in-memory.rebuild-interval:PT1H}")
+    public void rebuild() {
+        try {
+            eventSearchIndexService.rebuild();
+        } catch (Exception e) {
+            log.error("Ошибка при построении поискового индекса событий: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.explorewithme.service;
+
+import ru.practicum.explorewithme.model.Event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventSearchIndexService {
+
+    boolean isReady();
+
+    int rebuild();
+
+    void onEventChanged(Event event);
+
+    List<Long> search(String text, List<Long> categories, Boolean paid, LocalDateTime rangeStart,
+                      LocalDateTime rangeEnd, String sort, int from, int size);
+
+    long memoryFootprintBytes();
+}
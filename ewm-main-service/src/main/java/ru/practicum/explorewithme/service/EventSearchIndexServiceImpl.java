@@ -0,0 +1,175 @@
+package ru.practicum.explorewithme.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.enums.EventState;
+import ru.practicum.explorewithme.repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class EventSearchIndexServiceImpl implements EventSearchIndexService, MeterBinder {
+
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private EventSearchIndex index;
+    private List<EventSearchIndex.Document> pending;
+
+    public EventSearchIndexServiceImpl(EventRepository eventRepository,
+                                       @Value("${ewm.event-search.in-memory.enabled:false}") boolean enabled) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            EventSearchIndex rebuilt = new EventSearchIndex();
+            try (Stream<Object[]> rows = eventRepository.streamSearchDocuments(EventState.PUBLISHED)) {
+                rows.forEach(row -> rebuilt.put(EventSearchIndex.Document.builder()
+                        .eventId(((Number) row[0]).longValue())
+                        .annotation((String) row[1])
+                        .description((String) row[2])
+                        .categoryId(((Number) row[3]).longValue())
+                        .paid(Boolean.TRUE.equals(row[4]))
+                        .eventDate((LocalDateTime) row[5])
+                        .published(true)
+                        .build()));
+            }
+
+            lock.writeLock().lock();
+            try {
+                pending.forEach(rebuilt::apply);
+                index = rebuilt;
+            } finally {
+                pending = null;
+                lock.writeLock().unlock();
+            }
+
+            log.info("Поисковый индекс событий перестроен: событий {}, термов {}, ~{} КБ",
+                    rebuilt.size(), rebuilt.terms(), rebuilt.memoryFootprintBytes() / 1024);
+            return rebuilt.size();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public void onEventChanged(Event event) {
+        if (!enabled) {
+            return;
+        }
+        EventSearchIndex.Document document = EventSearchIndex.Document.of(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(document);
+                }
+            });
+        } else {
+            apply(document);
+        }
+    }
+
+    @Override
+    public List<Long> search(String text, List<Long> categories, Boolean paid, LocalDateTime rangeStart,
+                             LocalDateTime rangeEnd, String sort, int from, int size) {
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                throw new IllegalStateException("Поисковый индекс событий не построен");
+            }
+            return index.search(text, categories, paid, rangeStart, rangeEnd, "EVENT_DATE".equals(sort),
+                    from, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long memoryFootprintBytes() {
+        return read(EventSearchIndex::memoryFootprintBytes);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        Gauge.builder("ewm.events.search-index.memory", this, s -> s.read(EventSearchIndex::memoryFootprintBytes))
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("ewm.events.search-index.documents", this, s -> s.read(EventSearchIndex::size))
+                .register(registry);
+        Gauge.builder("ewm.events.search-index.terms", this, s -> s.read(EventSearchIndex::terms))
+                .register(registry);
+    }
+
+    private void apply(EventSearchIndex.Document document) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(document);
+            }
+            if (index != null) {
+                index.apply(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long read(ToLongFunction<EventSearchIndex> metric) {
+        lock.readLock().lock();
+        try {
+            return index != null ? metric.applyAsLong(index) : 0L;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
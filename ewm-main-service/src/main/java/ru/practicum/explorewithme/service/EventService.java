@@ -1,5 +1,6 @@
 package ru.practicum.explorewithme.service;
 
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.EventFullDto;
 import ru.practicum.explorewithme.dto.EventShortDto;
 import ru.practicum.explorewithme.dto.NewEventDto;
@@ -23,11 +24,20 @@ public interface EventService {
                                         List<Long> categories, LocalDateTime rangeStart,
                                         LocalDateTime rangeEnd, Integer from, Integer size);
 
+    CursorPage<EventFullDto> getEventsByAdminByCursor(List<Long> users, List<EventState> states,
+                                                      List<Long> categories, LocalDateTime rangeStart,
+                                                      LocalDateTime rangeEnd, String cursor, Integer size);
+
     EventFullDto updateEventByAdmin(Long eventId, UpdateEventAdminRequest updateRequest);
 
     List<EventShortDto> getEventsPublic(String text, List<Long> categories, Boolean paid,
                                         LocalDateTime rangeStart, LocalDateTime rangeEnd,
                                         Boolean onlyAvailable, String sort, Integer from, Integer size);
 
+    CursorPage<EventShortDto> getEventsPublicByCursor(String text, List<Long> categories, Boolean paid,
+                                                      LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                      Boolean onlyAvailable, String sort, String cursor,
+                                                      Integer size);
+
     EventFullDto getEventPublic(Long eventId);
 }
\ No newline at end of file
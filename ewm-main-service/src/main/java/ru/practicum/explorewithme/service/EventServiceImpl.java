@@ -2,41 +2,41 @@ package ru.practicum.explorewithme.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.explorewithme.dto.CategoryDto;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.EventFullDto;
 import ru.practicum.explorewithme.dto.EventShortDto;
 import ru.practicum.explorewithme.dto.EventWithViewsDto;
 import ru.practicum.explorewithme.dto.NewEventDto;
 import ru.practicum.explorewithme.dto.UpdateEventAdminRequest;
 import ru.practicum.explorewithme.dto.UpdateEventUserRequest;
+import ru.practicum.explorewithme.dto.UserShortDto;
 import ru.practicum.explorewithme.exception.ConflictException;
 import ru.practicum.explorewithme.exception.NotFoundException;
 import ru.practicum.explorewithme.mapper.CategoryMapper;
 import ru.practicum.explorewithme.mapper.EventMapper;
 import ru.practicum.explorewithme.mapper.UserMapper;
-import ru.practicum.explorewithme.model.Category;
 import ru.practicum.explorewithme.model.Event;
 import ru.practicum.explorewithme.model.User;
 import ru.practicum.explorewithme.model.enums.EventState;
-import ru.practicum.explorewithme.model.enums.RequestStatus;
 import ru.practicum.explorewithme.model.enums.StateAction;
 import ru.practicum.explorewithme.repository.CategoryRepository;
 import ru.practicum.explorewithme.repository.EventRepository;
-import ru.practicum.explorewithme.repository.RequestRepository;
 import ru.practicum.explorewithme.repository.UserRepository;
 import ru.practicum.explorewithme.repository.specification.EventSpecifications;
+import ru.practicum.explorewithme.service.EventEnrichmentService.EventEnrichment;
+import ru.practicum.explorewithme.util.KeysetCursor;
 import ru.practicum.explorewithme.util.PaginationUtil;
 import ru.practicum.explorewithme.util.ValidationUtil;
-import ru.practicum.stats.client.StatsClient;
-import ru.practicum.stats.dto.ViewStats;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,8 +48,10 @@ public class EventServiceImpl implements EventService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final RequestRepository requestRepository;
-    private final StatsClient statsClient;
+    private final EventEnrichmentService eventEnrichmentService;
+    private final EventSearchIndexService eventSearchIndexService;
+    private final CategoryDictionaryService categoryDictionaryService;
+    private final CompilationCacheService compilationCacheService;
 
     @Override
     @Transactional
@@ -57,8 +59,7 @@ public class EventServiceImpl implements EventService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("Пользователь с id=" + userId + " не найден"));
 
-        Category category = categoryRepository.findById(newEventDto.getCategory())
-                .orElseThrow(() -> new NotFoundException("Категория с id=" + newEventDto.getCategory() + " не найдена"));
+        CategoryDto category = findCategory(newEventDto.getCategory());
 
         ValidationUtil.validateEventDate(newEventDto.getEventDate(), "Event date");
 
@@ -67,7 +68,7 @@ public class EventServiceImpl implements EventService {
         ValidationUtil.validateStringLength(newEventDto.getTitle(), "Title", 3, 120);
 
         Event event = EventMapper.toEvent(newEventDto);
-        event.setCategory(category);
+        event.setCategory(categoryRepository.getReferenceById(category.getId()));
         event.setInitiator(user);
         event.setState(EventState.PENDING);
         event.setCreatedOn(LocalDateTime.now());
@@ -76,7 +77,7 @@ public class EventServiceImpl implements EventService {
         log.info("Создано событие: {}", savedEvent);
 
         EventFullDto dto = EventMapper.toEventFullDto(savedEvent);
-        dto.setCategory(CategoryMapper.toCategoryDto(savedEvent.getCategory()));
+        dto.setCategory(category);
         dto.setInitiator(UserMapper.toUserShortDto(savedEvent.getInitiator()));
         dto.setConfirmedRequests(0L);
         dto.setViews(0L);
@@ -95,7 +96,6 @@ public class EventServiceImpl implements EventService {
                     EventShortDto dto = EventMapper.toEventShortDto(event);
                     dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
                     dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
-                    dto.setConfirmedRequests(requestRepository.countByEventIdAndStatus(event.getId(), RequestStatus.CONFIRMED));
                     return dto;
                 })
                 .collect(Collectors.toList());
@@ -109,7 +109,6 @@ public class EventServiceImpl implements EventService {
         EventFullDto dto = EventMapper.toEventFullDto(event);
         dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
         dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
-        dto.setConfirmedRequests(requestRepository.countByEventIdAndStatus(event.getId(), RequestStatus.CONFIRMED));
 
         return dto;
     }
@@ -150,11 +149,12 @@ public class EventServiceImpl implements EventService {
 
         Event updatedEvent = eventRepository.save(event);
         log.info("Обновлено событие пользователем: {}", updatedEvent);
+        eventSearchIndexService.onEventChanged(updatedEvent);
+        compilationCacheService.onEventChanged(updatedEvent.getId());
 
         EventFullDto dto = EventMapper.toEventFullDto(updatedEvent);
-        dto.setCategory(CategoryMapper.toCategoryDto(updatedEvent.getCategory()));
+        dto.setCategory(findCategory(updatedEvent.getCategory().getId()));
         dto.setInitiator(UserMapper.toUserShortDto(updatedEvent.getInitiator()));
-        dto.setConfirmedRequests(requestRepository.countByEventIdAndStatus(event.getId(), RequestStatus.CONFIRMED));
 
         return dto;
     }
@@ -163,27 +163,59 @@ public class EventServiceImpl implements EventService {
     public List<EventFullDto> getEventsByAdmin(List<Long> users, List<EventState> states,
                                                List<Long> categories, LocalDateTime rangeStart,
                                                LocalDateTime rangeEnd, Integer from, Integer size) {
-        Sort sort = Sort.by("createdOn").descending();
+        Sort sort = Sort.by("createdOn").descending().and(Sort.by("id").descending());
         Pageable pageable = PaginationUtil.createPageRequest(from, size, sort);
 
-        Specification<Event> spec = Specification
+        Specification<Event> spec = adminSpecification(users, states, categories, rangeStart, rangeEnd);
+
+        return eventRepository.findSlice(spec, pageable).getContent().stream()
+                .map(this::toEventFullDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CursorPage<EventFullDto> getEventsByAdminByCursor(List<Long> users, List<EventState> states,
+                                                             List<Long> categories, LocalDateTime rangeStart,
+                                                             LocalDateTime rangeEnd, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, true);
+        int limit = PaginationUtil.normalizeSize(size);
+
+        Specification<Event> spec = adminSpecification(users, states, categories, rangeStart, rangeEnd)
+                .and(EventSpecifications.createdBefore(after));
+        List<Event> events = findFirst(spec, Sort.by("createdOn").descending().and(Sort.by("id").descending()),
+                limit);
+
+        String nextCursor = null;
+        if (events.size() == limit) {
+            Event last = events.get(events.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedOn(), last.getId());
+        }
+        return new CursorPage<>(events.stream().map(this::toEventFullDto).collect(Collectors.toList()), nextCursor);
+    }
+
+    private Specification<Event> adminSpecification(List<Long> users, List<EventState> states,
+                                                    List<Long> categories, LocalDateTime rangeStart,
+                                                    LocalDateTime rangeEnd) {
+        return Specification
                 .where(EventSpecifications.hasUsers(users))
                 .and(EventSpecifications.hasStates(states))
                 .and(EventSpecifications.hasCategories(categories))
                 .and(EventSpecifications.hasDateRange(rangeStart, rangeEnd));
+    }
 
-        Page<Event> eventPage = eventRepository.findAll(spec, pageable);
-        List<Event> events = eventPage.getContent();
+    private List<Event> findFirst(Specification<Event> spec, Sort sort, int limit) {
+        return eventRepository.findBy(spec, query -> query
+                .sortBy(sort)
+                .limit(limit)
+                .project("category", "initiator")
+                .all());
+    }
 
-        return events.stream()
-                .map(event -> {
-                    EventFullDto dto = EventMapper.toEventFullDto(event);
-                    dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
-                    dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
-                    dto.setConfirmedRequests(requestRepository.countByEventIdAndStatus(event.getId(), RequestStatus.CONFIRMED));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    private EventFullDto toEventFullDto(Event event) {
+        EventFullDto dto = EventMapper.toEventFullDto(event);
+        dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
+        dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
+        return dto;
     }
 
     @Override
@@ -242,11 +274,12 @@ public class EventServiceImpl implements EventService {
 
         Event updatedEvent = eventRepository.save(event);
         log.info("Обновлено событие администратором: {}", updatedEvent);
+        eventSearchIndexService.onEventChanged(updatedEvent);
+        compilationCacheService.onEventChanged(updatedEvent.getId());
 
         EventFullDto dto = EventMapper.toEventFullDto(updatedEvent);
-        dto.setCategory(CategoryMapper.toCategoryDto(updatedEvent.getCategory()));
+        dto.setCategory(findCategory(updatedEvent.getCategory().getId()));
         dto.setInitiator(UserMapper.toUserShortDto(updatedEvent.getInitiator()));
-        dto.setConfirmedRequests(requestRepository.countByEventIdAndStatus(event.getId(), RequestStatus.CONFIRMED));
 
         return dto;
     }
@@ -265,55 +298,90 @@ public class EventServiceImpl implements EventService {
         LocalDateTime statsStart = rangeStart != null ? rangeStart : LocalDateTime.now().minusYears(1);
         LocalDateTime statsEnd = rangeEnd != null ? rangeEnd : LocalDateTime.now().plusYears(1);
 
+        boolean byRelevance = sort == null && text != null && !text.isBlank();
+
+        if (!"VIEWS".equals(sort) && !byRelevance && !Boolean.TRUE.equals(onlyAvailable)
+                && eventSearchIndexService.isReady()) {
+            return getEventsPublicFromIndex(text, categories, paid, rangeStart, rangeEnd, sort, from, size,
+                    statsStart, statsEnd);
+        }
+
         if ("VIEWS".equals(sort)) {
-            return getEventsPublicWithNativeQuery(text, categories, paid, rangeStart, rangeEnd,
-                    onlyAvailable, sort, from, size, statsStart, statsEnd);
+            return getEventsPublicSortedByViews(text, categories, paid, rangeStart, rangeEnd,
+                    onlyAvailable, from, size);
+        } else if (byRelevance) {
+            return getEventsPublicByRelevance(text, categories, paid, rangeStart, rangeEnd,
+                    onlyAvailable, from, size, statsStart, statsEnd);
         } else {
             return getEventsPublicWithSpecification(text, categories, paid, rangeStart, rangeEnd,
                     onlyAvailable, sort, from, size, statsStart, statsEnd);
         }
     }
 
-    private List<EventShortDto> getEventsPublicWithNativeQuery(String text, List<Long> categories, Boolean paid,
-                                                               LocalDateTime rangeStart, LocalDateTime rangeEnd,
-                                                               Boolean onlyAvailable, String sort, Integer from,
-                                                               Integer size, LocalDateTime statsStart,
-                                                               LocalDateTime statsEnd) {
+    @Override
+    public CursorPage<EventShortDto> getEventsPublicByCursor(String text, List<Long> categories, Boolean paid,
+                                                             LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                             Boolean onlyAvailable, String sort, String cursor,
+                                                             Integer size) {
 
-        List<Object[]> results = eventRepository.findEventsPublicWithViewsNative(
-                text, categories, paid, rangeStart, rangeEnd, onlyAvailable,
-                sort, false, from, size, statsStart, statsEnd);
+        if (rangeStart != null && rangeEnd != null && rangeStart.isAfter(rangeEnd)) {
+            throw new IllegalArgumentException("Дата начала должна быть раньше даты окончания");
+        }
+        if ("VIEWS".equals(sort)) {
+            throw new IllegalArgumentException("Курсорная пагинация поддерживает только сортировку по дате события");
+        }
+
+        PaginationUtil.validatePaginationParams(0, size);
+        KeysetCursor after = KeysetCursor.decode(cursor, true);
+        int limit = PaginationUtil.normalizeSize(size);
+
+        boolean defaultStatsWindow = rangeStart == null && rangeEnd == null;
+        LocalDateTime statsStart = rangeStart != null ? rangeStart : LocalDateTime.now().minusYears(1);
+        LocalDateTime statsEnd = rangeEnd != null ? rangeEnd : LocalDateTime.now().plusYears(1);
+
+        Specification<Event> spec = Specification
+                .where(EventSpecifications.hasState(EventState.PUBLISHED))
+                .and(EventSpecifications.hasText(text))
+                .and(EventSpecifications.hasCategories(categories))
+                .and(EventSpecifications.hasPaid(paid))
+                .and(EventSpecifications.hasDateRange(rangeStart != null ? rangeStart : LocalDateTime.now(), rangeEnd))
+                .and(EventSpecifications.isAvailable(onlyAvailable))
+                .and(EventSpecifications.eventDateAfter(after));
+        List<Event> events = findFirst(spec, Sort.by("eventDate").and(Sort.by("id")), limit);
+
+        String nextCursor = null;
+        if (events.size() == limit) {
+            Event last = events.get(events.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getEventDate(), last.getId());
+        }
+        return new CursorPage<>(toEventShortDtos(events, defaultStatsWindow, statsStart, statsEnd), nextCursor);
+    }
+
+    private List<EventShortDto> getEventsPublicSortedByViews(String text, List<Long> categories, Boolean paid,
+                                                             LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                             Boolean onlyAvailable, Integer from, Integer size) {
+
+        List<Object[]> results = eventRepository.findEventsPublicSortedByViews(
+                text, categories, paid, rangeStart, rangeEnd, Boolean.TRUE.equals(onlyAvailable), from, size);
 
         List<EventWithViewsDto> eventsWithViews = results.stream()
                 .map(this::mapToEventWithViews)
                 .collect(Collectors.toList());
 
-        if (Boolean.TRUE.equals(onlyAvailable)) {
-            eventsWithViews = filterEventsByAvailability(eventsWithViews);
-        }
-
         return eventsWithViews.stream()
                 .map(this::convertToEventShortDto)
                 .collect(Collectors.toList());
     }
 
-    private List<EventWithViewsDto> filterEventsByAvailability(List<EventWithViewsDto> events) {
-        return events.stream()
-                .filter(event -> {
-                    Long confirmedRequests = getConfirmedRequests(event.getId());
-                    return event.getParticipantLimit() == 0 ||
-                           event.getParticipantLimit() > confirmedRequests;
-                })
-                .collect(Collectors.toList());
-    }
-
     private EventWithViewsDto mapToEventWithViews(Object[] row) {
         return EventWithViewsDto.builder()
                 .id(((Number) row[0]).longValue())
                 .annotation((String) row[1])
                 .categoryId(((Number) row[2]).longValue())
+                .categoryName((String) row[16])
                 .eventDate(((java.sql.Timestamp) row[5]).toLocalDateTime())
                 .initiatorId(((Number) row[6]).longValue())
+                .initiatorName((String) row[17])
                 .lat(row[7] != null ? ((Number) row[7]).floatValue() : null)
                 .lon(row[8] != null ? ((Number) row[8]).floatValue() : null)
                 .paid((Boolean) row[9])
@@ -321,35 +389,76 @@ public class EventServiceImpl implements EventService {
                 .publishedOn(row[11] != null ? ((java.sql.Timestamp) row[11]).toLocalDateTime() : null)
                 .requestModeration(row[12] != null ? (Boolean) row[12] : true)
                 .title((String) row[13])
-                .views(row.length > 14 ? ((Number) row[14]).longValue() : 0L)
-                .confirmedRequests(row.length > 15 ? ((Number) row[15]).longValue() : 0L)
+                .views(((Number) row[14]).longValue())
+                .confirmedRequests(((Number) row[15]).longValue())
                 .build();
     }
 
     private EventShortDto convertToEventShortDto(EventWithViewsDto eventWithViews) {
-        Category category = categoryRepository.findById(eventWithViews.getCategoryId())
-                .orElseThrow(() -> new NotFoundException("Категория не найдена"));
-
-        User initiator = userRepository.findById(eventWithViews.getInitiatorId())
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
-
-        Long confirmedRequests = getConfirmedRequests(eventWithViews.getId());
-
         return EventShortDto.builder()
                 .id(eventWithViews.getId())
                 .annotation(eventWithViews.getAnnotation())
-                .category(CategoryMapper.toCategoryDto(category))
-                .confirmedRequests(confirmedRequests)
+                .category(CategoryDto.builder()
+                        .id(eventWithViews.getCategoryId())
+                        .name(eventWithViews.getCategoryName())
+                        .build())
+                .confirmedRequests(eventWithViews.getConfirmedRequests())
                 .eventDate(eventWithViews.getEventDate())
-                .initiator(UserMapper.toUserShortDto(initiator))
+                .initiator(UserShortDto.builder()
+                        .id(eventWithViews.getInitiatorId())
+                        .name(eventWithViews.getInitiatorName())
+                        .build())
                 .paid(eventWithViews.getPaid())
                 .title(eventWithViews.getTitle())
                 .views(eventWithViews.getViews())
                 .build();
     }
 
-    private Long getConfirmedRequests(Long eventId) {
-        return requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED);
+    private List<EventShortDto> getEventsPublicByRelevance(String text, List<Long> categories, Boolean paid,
+                                                           LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                           Boolean onlyAvailable, Integer from, Integer size,
+                                                           LocalDateTime statsStart, LocalDateTime statsEnd) {
+
+        boolean defaultStatsWindow = rangeStart == null && rangeEnd == null;
+        LocalDateTime now = LocalDateTime.now();
+
+        if (rangeEnd != null && rangeEnd.isBefore(now)) {
+            log.debug("rangeEnd в прошлом, события не будут найдены");
+            return List.of();
+        }
+
+        List<Long> eventIds = eventRepository.findPublishedIdsByRelevance(text, categories, paid,
+                rangeStart != null ? rangeStart : now, rangeEnd, Boolean.TRUE.equals(onlyAvailable), from, size);
+
+        EventEnrichment enrichment = startEnrichment(eventIds, defaultStatsWindow, statsStart, statsEnd);
+        return toEventShortDtos(findByIdsInOrder(eventIds), enrichment);
+    }
+
+    private List<EventShortDto> getEventsPublicFromIndex(String text, List<Long> categories, Boolean paid,
+                                                         LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                         String sort, Integer from, Integer size,
+                                                         LocalDateTime statsStart, LocalDateTime statsEnd) {
+
+        boolean defaultStatsWindow = rangeStart == null && rangeEnd == null;
+
+        List<Long> eventIds = eventSearchIndexService.search(text, categories, paid,
+                rangeStart != null ? rangeStart : LocalDateTime.now(), rangeEnd, sort, from, size);
+
+        EventEnrichment enrichment = startEnrichment(eventIds, defaultStatsWindow, statsStart, statsEnd);
+        return toEventShortDtos(findByIdsInOrder(eventIds), enrichment);
+    }
+
+    private List<Event> findByIdsInOrder(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Event> eventsById = eventRepository.findByIdIn(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return eventIds.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     private List<EventShortDto> getEventsPublicWithSpecification(String text, List<Long> categories, Boolean paid,
@@ -358,6 +467,8 @@ public class EventServiceImpl implements EventService {
                                                                  Integer size, LocalDateTime statsStart,
                                                                  LocalDateTime statsEnd) {
 
+        boolean defaultStatsWindow = rangeStart == null && rangeEnd == null;
+
         if (rangeStart == null) {
             rangeStart = LocalDateTime.now();
             log.debug("rangeStart не указан, используется текущее время: {}", rangeStart);
@@ -370,7 +481,7 @@ public class EventServiceImpl implements EventService {
 
         Pageable pageable;
         if ("EVENT_DATE".equals(sort)) {
-            pageable = PaginationUtil.createPageRequest(from, size, Sort.by("eventDate"));
+            pageable = PaginationUtil.createPageRequest(from, size, Sort.by("eventDate").and(Sort.by("id")));
         } else {
             pageable = PaginationUtil.createPageRequest(from, size);
         }
@@ -380,26 +491,37 @@ public class EventServiceImpl implements EventService {
                 .and(EventSpecifications.hasText(text))
                 .and(EventSpecifications.hasCategories(categories))
                 .and(EventSpecifications.hasPaid(paid))
-                .and(EventSpecifications.hasDateRange(rangeStart, rangeEnd));
+                .and(EventSpecifications.hasDateRange(rangeStart, rangeEnd))
+                .and(EventSpecifications.isAvailable(onlyAvailable));
 
-        Page<Event> eventPage = eventRepository.findAll(spec, pageable);
-        List<Event> events = eventPage.getContent();
+        List<Event> events = eventRepository.findSlice(spec, pageable).getContent();
 
-        if (Boolean.TRUE.equals(onlyAvailable)) {
-            events = events.stream()
-                    .filter(event -> event.getParticipantLimit() == 0 ||
-                            event.getParticipantLimit() > requestRepository.countByEventIdAndStatus(event.getId(), RequestStatus.CONFIRMED))
-                    .collect(Collectors.toList());
-        }
+        return toEventShortDtos(events, defaultStatsWindow, statsStart, statsEnd);
+    }
 
-        Map<Long, Long> viewsMap = getEventsViews(events, statsStart, statsEnd);
+    private List<EventShortDto> toEventShortDtos(List<Event> events, boolean defaultStatsWindow,
+                                                 LocalDateTime statsStart, LocalDateTime statsEnd) {
+        List<Long> eventIds = events.stream().map(Event::getId).collect(Collectors.toList());
+        return toEventShortDtos(events, startEnrichment(eventIds, defaultStatsWindow, statsStart, statsEnd));
+    }
 
+    private EventEnrichment startEnrichment(List<Long> eventIds, boolean defaultStatsWindow,
+                                            LocalDateTime statsStart, LocalDateTime statsEnd) {
+        return defaultStatsWindow
+                ? eventEnrichmentService.start(eventIds, null, null)
+                : eventEnrichmentService.start(eventIds, statsStart, statsEnd);
+    }
+
+    private List<EventShortDto> toEventShortDtos(List<Event> events, EventEnrichment enrichment) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Long> viewsMap = enrichment.getViews();
         return events.stream()
                 .map(event -> {
                     EventShortDto dto = EventMapper.toEventShortDto(event);
                     dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
                     dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
-                    dto.setConfirmedRequests(requestRepository.countByEventIdAndStatus(event.getId(), RequestStatus.CONFIRMED));
                     dto.setViews(viewsMap.getOrDefault(event.getId(), 0L));
                     return dto;
                 })
@@ -415,26 +537,28 @@ public class EventServiceImpl implements EventService {
             throw new NotFoundException("Событие с id=" + eventId + " не опубликовано");
         }
 
+        EventEnrichment enrichment = eventEnrichmentService.start(List.of(eventId), null, null);
+
         EventFullDto dto = EventMapper.toEventFullDto(event);
         dto.setCategory(CategoryMapper.toCategoryDto(event.getCategory()));
         dto.setInitiator(UserMapper.toUserShortDto(event.getInitiator()));
-        dto.setConfirmedRequests(requestRepository.countByEventIdAndStatus(event.getId(), RequestStatus.CONFIRMED));
-
-        Map<Long, Long> viewsMap = getEventsViews(List.of(event),
-                LocalDateTime.now().minusYears(1), LocalDateTime.now().plusYears(1));
-        dto.setViews(viewsMap.getOrDefault(eventId, 0L));
+        dto.setViews(enrichment.getViews().getOrDefault(eventId, 0L));
 
         return dto;
     }
 
+    private CategoryDto findCategory(Long categoryId) {
+        return categoryDictionaryService.find(categoryId)
+                .orElseThrow(() -> new NotFoundException("Категория с id=" + categoryId + " не найдена"));
+    }
+
     private void updateEventFields(Event event, UpdateEventUserRequest updateRequest) {
         if (updateRequest.getAnnotation() != null) {
             event.setAnnotation(updateRequest.getAnnotation());
         }
         if (updateRequest.getCategory() != null) {
-            Category category = categoryRepository.findById(updateRequest.getCategory())
-                    .orElseThrow(() -> new NotFoundException("Категория не найдена"));
-            event.setCategory(category);
+            CategoryDto category = findCategory(updateRequest.getCategory());
+            event.setCategory(categoryRepository.getReferenceById(category.getId()));
         }
         if (updateRequest.getDescription() != null) {
             event.setDescription(updateRequest.getDescription());
@@ -465,9 +589,8 @@ public class EventServiceImpl implements EventService {
             event.setAnnotation(updateRequest.getAnnotation());
         }
         if (updateRequest.getCategory() != null) {
-            Category category = categoryRepository.findById(updateRequest.getCategory())
-                    .orElseThrow(() -> new NotFoundException("Категория не найдена"));
-            event.setCategory(category);
+            CategoryDto category = findCategory(updateRequest.getCategory());
+            event.setCategory(categoryRepository.getReferenceById(category.getId()));
         }
         if (updateRequest.getDescription() != null) {
             event.setDescription(updateRequest.getDescription());
@@ -492,39 +615,4 @@ public class EventServiceImpl implements EventService {
             event.setTitle(updateRequest.getTitle());
         }
     }
-
-
-    private Map<Long, Long> getEventsViews(List<Event> events, LocalDateTime start, LocalDateTime end) {
-        if (events.isEmpty()) {
-            return Map.of();
-        }
-
-        List<String> uris = events.stream()
-                .map(event -> "/events/" + event.getId())
-                .collect(Collectors.toList());
-
-        try {
-            List<ViewStats> stats = statsClient.getStats(start, end, uris, true);
-
-            Map<Long, Long> viewsMap = new HashMap<>();
-            for (ViewStats stat : stats) {
-                String uri = stat.getUri();
-                if (uri.startsWith("/events/")) {
-                    try {
-                        Long eventId = Long.parseLong(uri.substring("/events/".length()));
-                        viewsMap.put(eventId, stat.getHits());
-                    } catch (NumberFormatException e) {
-                        log.warn("Не удалось извлечь id события из URI: {}", uri);
-                    }
-                }
-            }
-
-            events.forEach(event -> viewsMap.putIfAbsent(event.getId(), 0L));
-
-            return viewsMap;
-        } catch (Exception e) {
-            log.error("Ошибка при получении статистики: {}", e.getMessage());
-            return events.stream().collect(Collectors.toMap(Event::getId, event -> 0L));
-        }
-    }
-}
\ No newline at end of file
+}
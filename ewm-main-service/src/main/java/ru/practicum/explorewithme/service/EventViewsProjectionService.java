@@ -0,0 +1,6 @@
+package ru.practicum.explorewithme.service;
+
+public interface EventViewsProjectionService {
+
+    int refresh();
+}
@@ -0,0 +1,95 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import ru.practicum.explorewithme.repository.EventViewCountRepository;
+import ru.practicum.stats.client.StatsClient;
+import ru.practicum.stats.dto.ViewStats;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Slf4j
+public class EventViewsProjectionServiceImpl implements EventViewsProjectionService {
+
+    private static final String EVENT_URI_PREFIX = "/events/";
+
+    private final StatsClient statsClient;
+    private final EventViewCountRepository eventViewCountRepository;
+    private final TransactionOperations transactionOperations;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private Map<Long, Long> projected;
+
+    public EventViewsProjectionServiceImpl(StatsClient statsClient,
+                                           EventViewCountRepository eventViewCountRepository,
+                                           TransactionOperations transactionOperations) {
+        this.statsClient = statsClient;
+        this.eventViewCountRepository = eventViewCountRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @Override
+    public int refresh() {
+        refreshLock.lock();
+        try {
+            LocalDateTime refreshedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            List<ViewStats> stats = statsClient.getStats(refreshedAt.minusYears(1), refreshedAt.plusYears(1),
+                    null, false);
+
+            Map<Long, Long> views = new HashMap<>();
+            for (ViewStats stat : stats) {
+                Long eventId = parseEventId(stat.getUri());
+                if (eventId != null) {
+                    views.merge(eventId, stat.getHits(), Long::sum);
+                }
+            }
+            if (views.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, Long> previous = projected != null ? projected : eventViewCountRepository.findAllViews();
+            Map<Long, Long> changed = new HashMap<>();
+            views.forEach((eventId, count) -> {
+                if (!count.equals(previous.get(eventId))) {
+                    changed.put(eventId, count);
+                }
+            });
+            List<Long> missing = previous.entrySet().stream()
+                    .filter(entry -> entry.getValue() != 0 && !views.containsKey(entry.getKey()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            projected = null;
+            int upserted = transactionOperations.execute(status -> {
+                int count = eventViewCountRepository.upsertAll(changed, refreshedAt);
+                eventViewCountRepository.resetAll(missing, refreshedAt);
+                return count;
+            });
+            missing.forEach(eventId -> views.put(eventId, 0L));
+            previous.forEach(views::putIfAbsent);
+            projected = views;
+
+            log.debug("Обновлена проекция просмотров: изменено {} событий, обнулено {}", upserted, missing.size());
+            return upserted;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Long parseEventId(String uri) {
+        if (uri == null || !uri.startsWith(EVENT_URI_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(uri.substring(EVENT_URI_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.explorewithme.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ewm.event-views.refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class EventViewsRefreshScheduler {
+
+    private final EventViewsProjectionService eventViewsProjectionService;
+
+    @Scheduled(fixedDelayString = "${ewm.event-views.refresh.interval:PT30S}",
+            initialDelayString = "${ewm.event-views.refresh.interval:PT30S}")
+    public void refresh() {
+        try {
+            eventViewsProjectionService.refresh();
+        } catch (Exception e) {
+            log.error("Ошибка при обновлении проекции просмотров: {}", e.getMessage(), e);
+        }
+    }
+}
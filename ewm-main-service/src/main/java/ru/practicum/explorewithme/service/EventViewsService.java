@@ -0,0 +1,18 @@
+package ru.practicum.explorewithme.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface EventViewsService {
+
+    Map<Long, Long> getViews(Collection<Long> eventIds);
+
+    Map<Long, Long> getViews(Collection<Long> eventIds, LocalDateTime start, LocalDateTime end);
+
+    CompletableFuture<Map<Long, Long>> getViewsAsync(Collection<Long> eventIds);
+
+    CompletableFuture<Map<Long, Long>> getViewsAsync(Collection<Long> eventIds, LocalDateTime start,
+                                                     LocalDateTime end);
+}
@@ -0,0 +1,183 @@
+package ru.practicum.explorewithme.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import ru.practicum.stats.client.StatsClient;
+import ru.practicum.stats.dto.ViewStats;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class EventViewsServiceImpl implements EventViewsService, MeterBinder {
+
+    private static final String EVENT_URI_PREFIX = "/events/";
+
+    private final StatsClient statsClient;
+    private final AsyncLoadingCache<Long, Long> cache;
+
+    public EventViewsServiceImpl(StatsClient statsClient,
+                                 @Value("${ewm.views-cache.enabled:false}") boolean cacheEnabled,
+                                 @Value("${ewm.views-cache.ttl:30s}") Duration ttl,
+                                 @Value("${ewm.views-cache.maximum-size:10000}") long maximumSize) {
+        this.statsClient = statsClient;
+        this.cache = cacheEnabled
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync(new ViewsLoader())
+                : null;
+    }
+
+    @Override
+    public Map<Long, Long> getViews(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        if (cache == null) {
+            return getViews(eventIds, defaultStart(), defaultEnd());
+        }
+
+        try {
+            return new HashMap<>(cache.getAll(eventIds).join());
+        } catch (CompletionException e) {
+            log.error("Ошибка при получении статистики: {}", e.getCause().getMessage());
+            return zeros(eventIds);
+        }
+    }
+
+    @Override
+    public Map<Long, Long> getViews(Collection<Long> eventIds, LocalDateTime start, LocalDateTime end) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            return fetchViews(eventIds, start, end);
+        } catch (Exception e) {
+            log.error("Ошибка при получении статистики: {}", e.getMessage());
+            return zeros(eventIds);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Long>> getViewsAsync(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        if (cache == null) {
+            return getViewsAsync(eventIds, defaultStart(), defaultEnd());
+        }
+
+        return cache.getAll(eventIds, (missing, executor) -> fetchViewsAsync(missing, defaultStart(), defaultEnd()))
+                .<Map<Long, Long>>thenApply(HashMap::new)
+                .exceptionally(e -> {
+                    log.error("Ошибка при получении статистики: {}", e.getMessage());
+                    return zeros(eventIds);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Long>> getViewsAsync(Collection<Long> eventIds, LocalDateTime start,
+                                                            LocalDateTime end) {
+        if (eventIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        try {
+            return fetchViewsAsync(eventIds, start, end)
+                    .exceptionally(e -> {
+                        log.error("Ошибка при получении статистики: {}", e.getMessage());
+                        return zeros(eventIds);
+                    });
+        } catch (Exception e) {
+            log.error("Ошибка при получении статистики: {}", e.getMessage());
+            return CompletableFuture.completedFuture(zeros(eventIds));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "eventViews");
+        }
+    }
+
+    private Map<Long, Long> fetchViews(Collection<? extends Long> eventIds, LocalDateTime start, LocalDateTime end) {
+        return toViews(eventIds, statsClient.getStats(start, end, toUris(eventIds), true));
+    }
+
+    private CompletableFuture<Map<Long, Long>> fetchViewsAsync(Collection<? extends Long> eventIds,
+                                                               LocalDateTime start, LocalDateTime end) {
+        return statsClient.getStatsAsync(start, end, toUris(eventIds), true)
+                .thenApply(stats -> toViews(eventIds, stats));
+    }
+
+    private List<String> toUris(Collection<? extends Long> eventIds) {
+        return eventIds.stream()
+                .map(id -> EVENT_URI_PREFIX + id)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Long> toViews(Collection<? extends Long> eventIds, List<ViewStats> stats) {
+        Map<Long, Long> viewsMap = new HashMap<>();
+        for (ViewStats stat : stats) {
+            String uri = stat.getUri();
+            if (uri.startsWith(EVENT_URI_PREFIX)) {
+                try {
+                    Long eventId = Long.parseLong(uri.substring(EVENT_URI_PREFIX.length()));
+                    viewsMap.put(eventId, stat.getHits());
+                } catch (NumberFormatException e) {
+                    log.warn("Не удалось извлечь id события из URI: {}", uri);
+                }
+            }
+        }
+
+        eventIds.forEach(id -> viewsMap.putIfAbsent(id, 0L));
+        return viewsMap;
+    }
+
+    private Map<Long, Long> zeros(Collection<Long> eventIds) {
+        return eventIds.stream().distinct().collect(Collectors.toMap(id -> id, id -> 0L));
+    }
+
+    private static LocalDateTime defaultStart() {
+        return LocalDateTime.now().minusYears(1);
+    }
+
+    private static LocalDateTime defaultEnd() {
+        return LocalDateTime.now().plusYears(1);
+    }
+
+    private class ViewsLoader implements AsyncCacheLoader<Long, Long> {
+
+        @Override
+        public CompletableFuture<Long> asyncLoad(Long eventId, Executor executor) {
+            return asyncLoadAll(Set.of(eventId), executor).thenApply(views -> views.get(eventId));
+        }
+
+        @Override
+        public CompletableFuture<Map<Long, Long>> asyncLoadAll(Set<? extends Long> eventIds, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> fetchViews(eventIds, defaultStart(), defaultEnd()), executor);
+        }
+    }
+}
@@ -33,6 +33,7 @@ public class RequestServiceImpl implements RequestService {
     private final RequestRepository requestRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final ConfirmedRequestsService confirmedRequestsService;
 
     @Override
     @Transactional
@@ -55,11 +56,8 @@ public class RequestServiceImpl implements RequestService {
             throw new ConflictException("Нельзя участвовать в неопубликованном событии");
         }
 
-        if (event.getParticipantLimit() != 0) {
-            Long confirmedRequests = requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED);
-            if (confirmedRequests >= event.getParticipantLimit()) {
-                throw new ConflictException("Достигнут лимит запросов на участие");
-            }
+        if (event.getParticipantLimit() != 0 && event.getConfirmedRequests() >= event.getParticipantLimit()) {
+            throw new ConflictException("Достигнут лимит запросов на участие");
         }
 
         ParticipationRequest request = ParticipationRequest.builder()
@@ -74,6 +72,9 @@ public class RequestServiceImpl implements RequestService {
         }
 
         ParticipationRequest savedRequest = requestRepository.save(request);
+        if (savedRequest.getStatus() == RequestStatus.CONFIRMED) {
+            confirmedRequestsService.addConfirmed(eventId, 1);
+        }
         log.info("Создан запрос на участие: {}", savedRequest);
 
         return RequestMapper.toParticipationRequestDto(savedRequest);
@@ -96,8 +97,12 @@ public class RequestServiceImpl implements RequestService {
             throw new NotFoundException("Запрос не принадлежит пользователю");
         }
 
+        boolean wasConfirmed = request.getStatus() == RequestStatus.CONFIRMED;
         request.setStatus(RequestStatus.CANCELED);
         ParticipationRequest updatedRequest = requestRepository.save(request);
+        if (wasConfirmed) {
+            confirmedRequestsService.removeConfirmed(request.getEvent().getId(), 1);
+        }
         log.info("Отменен запрос: {}", updatedRequest);
 
         return RequestMapper.toParticipationRequestDto(updatedRequest);
@@ -132,7 +137,7 @@ public class RequestServiceImpl implements RequestService {
             throw new ConflictException("Подтверждение заявок не требуется");
         }
 
-        Long confirmedRequests = requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED);
+        long confirmedRequests = event.getConfirmedRequests();
         if (confirmedRequests >= event.getParticipantLimit()) {
             throw new ConflictException("Достигнут лимит по заявкам на данное событие");
         }
@@ -163,6 +168,7 @@ public class RequestServiceImpl implements RequestService {
         }
 
         requestRepository.saveAll(requests);
+        confirmedRequestsService.addConfirmed(eventId, confirmed.size());
 
         if (confirmedRequests >= event.getParticipantLimit()) {
             List<ParticipationRequest> pendingRequests = requestRepository.findByEventId(eventId)
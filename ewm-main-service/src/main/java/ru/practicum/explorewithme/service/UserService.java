@@ -1,5 +1,6 @@
 package ru.practicum.explorewithme.service;
 
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.NewUserRequest;
 import ru.practicum.explorewithme.dto.UserDto;
 
@@ -10,5 +11,7 @@ public interface UserService {
 
     List<UserDto> getUsers(List<Long> ids, Integer from, Integer size);
 
+    CursorPage<UserDto> getUsersByCursor(List<Long> ids, String cursor, Integer size);
+
     void deleteUser(Long userId);
 }
\ No newline at end of file
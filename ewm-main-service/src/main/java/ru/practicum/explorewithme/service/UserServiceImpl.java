@@ -2,10 +2,13 @@ package ru.practicum.explorewithme.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.NewUserRequest;
 import ru.practicum.explorewithme.dto.UserDto;
 import ru.practicum.explorewithme.exception.ConflictException;
@@ -13,10 +16,10 @@ import ru.practicum.explorewithme.exception.NotFoundException;
 import ru.practicum.explorewithme.mapper.UserMapper;
 import ru.practicum.explorewithme.model.User;
 import ru.practicum.explorewithme.repository.UserRepository;
+import ru.practicum.explorewithme.util.KeysetCursor;
 import ru.practicum.explorewithme.util.PaginationUtil;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,11 +33,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserDto createUser(NewUserRequest newUserRequest) {
-        Optional<User> existingUser = userRepository.findAll().stream()
-                .filter(user -> user.getEmail().equalsIgnoreCase(newUserRequest.getEmail()))
-                .findFirst();
-
-        if (existingUser.isPresent()) {
+        if (userRepository.existsByEmailIgnoreCase(newUserRequest.getEmail())) {
             throw new ConflictException("Пользователь с email=" + newUserRequest.getEmail() + " уже существует");
         }
 
@@ -43,7 +42,12 @@ public class UserServiceImpl implements UserService {
                 .email(newUserRequest.getEmail())
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Пользователь с email=" + newUserRequest.getEmail() + " уже существует");
+        }
         log.info("Создан пользователь: {}", savedUser);
         return UserMapper.toUserDto(savedUser);
     }
@@ -56,7 +60,7 @@ public class UserServiceImpl implements UserService {
         List<User> users;
 
         if (ids == null || ids.isEmpty()) {
-            users = userRepository.findAll(pageable).getContent();
+            users = userRepository.findAllBy(pageable).getContent();
         } else {
             users = userRepository.findByIdIn(ids, pageable);
         }
@@ -66,6 +70,20 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<UserDto> getUsersByCursor(List<Long> ids, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, false);
+        Long afterId = after != null ? after.getId() : 0L;
+        int limit = PaginationUtil.normalizeSize(size);
+
+        List<User> users = ids == null || ids.isEmpty()
+                ? userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit))
+                : userRepository.findByIdInAndIdGreaterThanOrderByIdAsc(ids, afterId, Limit.of(limit));
+
+        String nextCursor = users.size() == limit ? KeysetCursor.encode(users.get(users.size() - 1).getId()) : null;
+        return new CursorPage<>(users.stream().map(UserMapper::toUserDto).collect(Collectors.toList()), nextCursor);
+    }
+
     @Override
     @Transactional
     public void deleteUser(Long userId) {
@@ -0,0 +1,56 @@
+package ru.practicum.explorewithme.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.explorewithme.dto.CursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime sortValue;
+    private final Long id;
+
+    public static String encode(Long id) {
+        return encode(null, id);
+    }
+
+    public static String encode(LocalDateTime sortValue, Long id) {
+        String raw = (sortValue != null ? sortValue.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor, boolean withSortValue) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0 || (separator == 0) == withSortValue) {
+                throw new IllegalArgumentException(raw);
+            }
+            LocalDateTime sortValue = withSortValue ? LocalDateTime.parse(raw.substring(0, separator)) : null;
+            return new KeysetCursor(sortValue, Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Некорректный курсор пагинации: " + cursor);
+        }
+    }
+
+    public static void writeNextCursor(HttpServletResponse response, CursorPage<?> page) {
+        if (page.getNextCursor() != null) {
+            response.setHeader(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+    }
+}
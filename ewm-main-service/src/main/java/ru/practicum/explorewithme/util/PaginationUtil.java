@@ -1,6 +1,5 @@
 package ru.practicum.explorewithme.util;
 
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -20,19 +19,14 @@ public class PaginationUtil {
             from = DEFAULT_FROM;
         }
 
-        if (size == null || size <= 0) {
-            size = DEFAULT_SIZE;
-        }
+        return new OffsetPageRequest(from, normalizeSize(size), sort);
+    }
 
-        if (size > MAX_SIZE) {
-            size = MAX_SIZE;
+    public static int normalizeSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
         }
-
-        int page = from / size;
-
-        return sort != null
-                ? PageRequest.of(page, size, sort)
-                : PageRequest.of(page, size);
+        return Math.min(size, MAX_SIZE);
     }
 
     public static void validatePaginationParams(Integer from, Integer size) {
@@ -0,0 +1,11 @@
+CREATE UNIQUE INDEX IF NOT EXISTS uq_users_email_lower ON users (LOWER(email));
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (setweight(to_tsvector('russian', COALESCE(annotation, '')), 'A') || setweight(to_tsvector('russian', COALESCE(description, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_events_annotation_trgm ON events USING GIN (LOWER(annotation) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_events_description_trgm ON events USING GIN (LOWER(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_events_state_event_date_id ON events (state, event_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_created_on_id ON events (created_on, id);
+CREATE INDEX IF NOT EXISTS idx_events_state_availability ON events (state, participant_limit, confirmed_requests);
+CREATE INDEX IF NOT EXISTS idx_comments_event_status_id ON comments (event_id, status, id);
+CREATE INDEX IF NOT EXISTS idx_comments_status_id ON comments (status, id);
@@ -24,7 +24,8 @@ CREATE TABLE IF NOT EXISTS events (
     published_on TIMESTAMP WITHOUT TIME ZONE,
     request_moderation BOOLEAN NOT NULL DEFAULT true,
     state VARCHAR(20) NOT NULL DEFAULT 'PENDING',
-    title VARCHAR(120) NOT NULL
+    title VARCHAR(120) NOT NULL,
+    confirmed_requests BIGINT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE IF NOT EXISTS participation_requests (
@@ -62,11 +63,21 @@ CREATE TABLE IF NOT EXISTS comments (
     restriction_reason VARCHAR(500)
 );
 
+CREATE TABLE IF NOT EXISTS event_views (
+    event_id BIGINT PRIMARY KEY,
+    views BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
 CREATE INDEX IF NOT EXISTS idx_events_state ON events(state);
 CREATE INDEX IF NOT EXISTS idx_events_category ON events(category_id);
 CREATE INDEX IF NOT EXISTS idx_events_initiator ON events(initiator_id);
 CREATE INDEX IF NOT EXISTS idx_events_event_date ON events(event_date);
 CREATE INDEX IF NOT EXISTS idx_events_state_event_date ON events(state, event_date);
+CREATE INDEX IF NOT EXISTS idx_events_state_event_date_id ON events(state, event_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_created_on_id ON events(created_on, id);
+CREATE INDEX IF NOT EXISTS idx_events_state_availability ON events(state, participant_limit, confirmed_requests);
+CREATE INDEX IF NOT EXISTS idx_event_views_views ON event_views(views DESC, event_id);
 CREATE INDEX IF NOT EXISTS idx_requests_event ON participation_requests(event_id);
 CREATE INDEX IF NOT EXISTS idx_requests_requester ON participation_requests(requester_id);
 CREATE INDEX IF NOT EXISTS idx_requests_status ON participation_requests(status);
@@ -76,4 +87,6 @@ CREATE INDEX IF NOT EXISTS idx_comments_author ON comments(author_id);
 CREATE INDEX IF NOT EXISTS idx_comments_parent ON comments(parent_id);
 CREATE INDEX IF NOT EXISTS idx_comments_status ON comments(status);
 CREATE INDEX IF NOT EXISTS idx_comments_created ON comments(created);
-CREATE INDEX IF NOT EXISTS idx_comments_event_status ON comments(event_id, status);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_comments_event_status ON comments(event_id, status);
+CREATE INDEX IF NOT EXISTS idx_comments_event_status_id ON comments(event_id, status, id);
+CREATE INDEX IF NOT EXISTS idx_comments_status_id ON comments(status, id);
\ No newline at end of file
@@ -0,0 +1,25 @@
+package ru.practicum.explorewithme;
+
+import org.junit.jupiter.api.TestReporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+final class BenchmarkReport {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkReport.class);
+
+    private BenchmarkReport() {
+    }
+
+    static void publish(TestReporter reporter, String format, Object... args) {
+        String result = String.format(Locale.ROOT, format, args);
+        log.info(result);
+        reporter.publishEntry("benchmark", result);
+    }
+
+    static double averageMillis(long nanos, int runs) {
+        return nanos / 1_000_000.0 / runs;
+    }
+}
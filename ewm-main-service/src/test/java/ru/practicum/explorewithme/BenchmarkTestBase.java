@@ -0,0 +1,96 @@
+package ru.practicum.explorewithme;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import ru.practicum.explorewithme.model.Category;
+import ru.practicum.explorewithme.model.User;
+import ru.practicum.explorewithme.repository.CategoryRepository;
+import ru.practicum.explorewithme.repository.UserRepository;
+import ru.practicum.stats.client.StatsClient;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@Tag("benchmark")
+@SpringBootTest(properties = "ewm.event-views.refresh.enabled=false")
+@ActiveProfiles("test")
+abstract class BenchmarkTestBase {
+
+    private static final int INSERT_BATCH = 10_000;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private StatsClient statsClient;
+
+    @BeforeEach
+    void stubStatsClient() {
+        when(statsClient.getStatsAsync(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+    }
+
+    protected static void h2Database(DynamicPropertyRegistry registry, String name) {
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    protected boolean hasRows(String table, int rows) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class) >= rows;
+    }
+
+    protected void insertRows(String sql, int rows, IntFunction<Object[]> row) {
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(row.apply(i));
+            if (batch.size() == INSERT_BATCH || i == rows) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    protected void seedPublishedEvents(String name, int rows, IntFunction<SeedEvent> event) {
+        if (hasRows("events", rows)) {
+            return;
+        }
+
+        Category category = categoryRepository.save(Category.builder().name(name).build());
+        User initiator = userRepository.save(User.builder()
+                .name("Benchmark")
+                .email(name.toLowerCase(Locale.ROOT).replace(' ', '-') + "@example.com")
+                .build());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        insertRows("INSERT INTO events (annotation, category_id, created_on, description, event_date, " +
+                "initiator_id, title, paid, participant_limit, request_moderation, state, confirmed_requests) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, false, 0, true, 'PUBLISHED', 0)", rows, i -> {
+                    SeedEvent seed = event.apply(i);
+                    return new Object[]{seed.annotation(), category.getId(), now, seed.description(),
+                            Timestamp.valueOf(seed.eventDate()), initiator.getId(), "Benchmark event " + i};
+                });
+    }
+
+    protected record SeedEvent(String annotation, String description, LocalDateTime eventDate) {
+    }
+}
@@ -0,0 +1,75 @@
+package ru.practicum.explorewithme;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.explorewithme.dto.EventShortDto;
+import ru.practicum.explorewithme.service.EventService;
+import ru.practicum.explorewithme.util.KeysetCursor;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ru.practicum.explorewithme.BenchmarkReport.averageMillis;
+
+class EventsKeysetPaginationBenchmarkTest extends BenchmarkTestBase {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 200_000);
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 10);
+    private static final int PAGE = Integer.getInteger("benchmark.page", 10_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 20);
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        h2Database(registry, "keyset_benchmark");
+    }
+
+    @Autowired
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime firstDate = LocalDateTime.now().plusMonths(1);
+        seedPublishedEvents("Keyset benchmark", EVENTS,
+                i -> new SeedEvent("Benchmark annotation " + i, null, firstDate.plusMinutes(i / 3)));
+    }
+
+    @Test
+    void deepPageWithOffsetAndCursor(TestReporter reporter) {
+        int from = PAGE * PAGE_SIZE;
+        Map<String, Object> previous = jdbcTemplate.queryForMap("SELECT event_date, id FROM events " +
+                "WHERE state = 'PUBLISHED' AND event_date >= CURRENT_TIMESTAMP ORDER BY event_date, id " +
+                "LIMIT 1 OFFSET ?", from - 1);
+        String cursor = KeysetCursor.encode(((Timestamp) previous.get("EVENT_DATE")).toLocalDateTime(),
+                ((Number) previous.get("ID")).longValue());
+
+        List<EventShortDto> byOffset = eventService.getEventsPublic(null, null, null, null, null, false,
+                "EVENT_DATE", from, PAGE_SIZE);
+        List<EventShortDto> byCursor = eventService.getEventsPublicByCursor(null, null, null, null, null, false,
+                "EVENT_DATE", cursor, PAGE_SIZE).getItems();
+        assertEquals(byOffset.stream().map(EventShortDto::getId).toList(),
+                byCursor.stream().map(EventShortDto::getId).toList());
+
+        long offsetNanos = 0;
+        long cursorNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            eventService.getEventsPublic(null, null, null, null, null, false, "EVENT_DATE", from, PAGE_SIZE);
+            offsetNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            eventService.getEventsPublicByCursor(null, null, null, null, null, false, "EVENT_DATE", cursor,
+                    PAGE_SIZE);
+            cursorNanos += System.nanoTime() - start;
+        }
+
+        BenchmarkReport.publish(reporter, "Page %d (size %d) over %d events: from/size %.2f ms, cursor %.2f ms",
+                PAGE, PAGE_SIZE, EVENTS, averageMillis(offsetNanos, ROUNDS), averageMillis(cursorNanos, ROUNDS));
+    }
+}
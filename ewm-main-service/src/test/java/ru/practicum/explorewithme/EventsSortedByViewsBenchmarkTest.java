@@ -0,0 +1,73 @@
+package ru.practicum.explorewithme;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.explorewithme.dto.EventShortDto;
+import ru.practicum.explorewithme.service.EventService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.practicum.explorewithme.BenchmarkReport.averageMillis;
+
+class EventsSortedByViewsBenchmarkTest extends BenchmarkTestBase {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 1_000_000);
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 10);
+    private static final int PAGES = Integer.getInteger("benchmark.pages", 50);
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        h2Database(registry, "views_benchmark");
+    }
+
+    @Autowired
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime eventDate = LocalDateTime.now().plusMonths(1);
+        seedPublishedEvents("Views benchmark", EVENTS,
+                i -> new SeedEvent("Benchmark annotation " + i, null, eventDate));
+
+        if (!hasRows("event_views", EVENTS)) {
+            jdbcTemplate.update("INSERT INTO event_views (event_id, views, updated_at) " +
+                    "SELECT e.id, MOD(e.id * 7919, 100000), CURRENT_TIMESTAMP FROM events e " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM event_views v WHERE v.event_id = e.id)");
+        }
+    }
+
+    @Test
+    void pageThroughEventsSortedByViews(TestReporter reporter) {
+        eventService.getEventsPublic(null, null, null, null, null, false, "VIEWS", 0, PAGE_SIZE);
+
+        long firstPageNanos = 0;
+        long deepPageNanos = 0;
+        for (int i = 0; i < PAGES; i++) {
+            long start = System.nanoTime();
+            List<EventShortDto> first = eventService.getEventsPublic(null, null, null, null, null, false,
+                    "VIEWS", 0, PAGE_SIZE);
+            firstPageNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            eventService.getEventsPublic(null, null, null, null, null, false,
+                    "VIEWS", EVENTS / 2, PAGE_SIZE);
+            deepPageNanos += System.nanoTime() - start;
+
+            assertEquals(PAGE_SIZE, first.size());
+            for (int j = 1; j < first.size(); j++) {
+                assertTrue(first.get(j - 1).getViews() >= first.get(j).getViews());
+            }
+        }
+
+        BenchmarkReport.publish(reporter, "VIEWS-sorted pages over %d events (size %d): first page %.2f ms, "
+                        + "offset %d %.2f ms", EVENTS, PAGE_SIZE, averageMillis(firstPageNanos, PAGES), EVENTS / 2,
+                averageMillis(deepPageNanos, PAGES));
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.explorewithme;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.explorewithme.dto.EventShortDto;
+import ru.practicum.explorewithme.service.EventService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static ru.practicum.explorewithme.BenchmarkReport.averageMillis;
+
+class EventsTextSearchBenchmarkTest extends PostgresBenchmarkTestBase {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 1_000_000);
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 10);
+    private static final int QUERIES = Integer.getInteger("benchmark.queries", 50);
+    private static final String[] WORDS = {"джаз", "лекция", "выставка", "концерт", "театр", "кино", "фестиваль",
+            "мастер-класс", "экскурсия", "спектакль", "ярмарка", "квиз", "семинар", "турнир", "балет", "опера"};
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        postgresDatabase(registry, "text_search_benchmark");
+    }
+
+    @Autowired
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime eventDate = LocalDateTime.now().plusMonths(1);
+        seedPublishedEvents("Text search benchmark", EVENTS, i -> new SeedEvent(
+                "Анонс: " + WORDS[i % WORDS.length] + " и " + WORDS[(i / 7) % WORDS.length] + " #" + i,
+                "Описание события " + i + ": " + WORDS[(i / 3) % WORDS.length] + " для всей семьи, вход по регистрации",
+                eventDate));
+    }
+
+    @Test
+    void searchEventsByText(TestReporter reporter) {
+        eventService.getEventsPublic(WORDS[0], null, null, null, null, false, null, 0, PAGE_SIZE);
+
+        long rankedNanos = 0;
+        long byDateNanos = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            String text = WORDS[i % WORDS.length];
+
+            long start = System.nanoTime();
+            List<EventShortDto> ranked = eventService.getEventsPublic(text, null, null, null, null, false,
+                    null, 0, PAGE_SIZE);
+            rankedNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            eventService.getEventsPublic(text, null, null, null, null, false, "EVENT_DATE", 0, PAGE_SIZE);
+            byDateNanos += System.nanoTime() - start;
+
+            assertFalse(ranked.isEmpty());
+        }
+
+        BenchmarkReport.publish(reporter, "Text search over %d events (size %d): ranked %.2f ms, "
+                        + "sort=EVENT_DATE %.2f ms", EVENTS, PAGE_SIZE, averageMillis(rankedNanos, QUERIES),
+                averageMillis(byDateNanos, QUERIES));
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.explorewithme;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.explorewithme.dto.NewUserRequest;
+import ru.practicum.explorewithme.exception.ConflictException;
+import ru.practicum.explorewithme.service.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static ru.practicum.explorewithme.BenchmarkReport.averageMillis;
+
+class UserSignupBenchmarkTest extends PostgresBenchmarkTestBase {
+
+    private static final int USERS = Integer.getInteger("benchmark.users", 1_000_000);
+    private static final int SIGNUPS = Integer.getInteger("benchmark.signups", 1_000);
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        postgresDatabase(registry, "signup_benchmark");
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        if (hasRows("users", USERS)) {
+            return;
+        }
+
+        insertRows("INSERT INTO users (name, email) VALUES (?, ?)", USERS,
+                i -> new Object[]{"Benchmark user " + i, "user" + i + "@benchmark.example.com"});
+    }
+
+    @Test
+    void signUpAgainstLargeUserBase(TestReporter reporter) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SIGNUPS; i++) {
+            userService.createUser(NewUserRequest.builder()
+                    .name("Signup " + i)
+                    .email("signup" + i + "-" + start + "@benchmark.example.com")
+                    .build());
+        }
+        long signupNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < SIGNUPS; i++) {
+            NewUserRequest duplicate = NewUserRequest.builder()
+                    .name("Duplicate " + i)
+                    .email("USER" + (i + 1) + "@BENCHMARK.EXAMPLE.COM")
+                    .build();
+            assertThrows(ConflictException.class, () -> userService.createUser(duplicate));
+        }
+        long duplicateNanos = System.nanoTime() - start;
+
+        BenchmarkReport.publish(reporter, "Signups against %d users: new email %.3f ms, duplicate email %.3f ms",
+                USERS, averageMillis(signupNanos, SIGNUPS), averageMillis(duplicateNanos, SIGNUPS));
+    }
+}
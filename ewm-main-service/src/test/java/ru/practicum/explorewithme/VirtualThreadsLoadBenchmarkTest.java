@@ -0,0 +1,166 @@
+package ru.practicum.explorewithme;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.explorewithme.config.VirtualThreadPinningMonitor;
+import ru.practicum.explorewithme.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "ewm.event-views.refresh.enabled=false"
+})
+@ActiveProfiles("test")
+class VirtualThreadsLoadBenchmarkTest {
+
+    private static final int POOL_SIZE = 10;
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+    private static final long HOLD_MILLIS = Long.getLong("benchmark.hold-ms", 20);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Test
+    void concurrentHttpRequestsOnVirtualThreads(TestReporter reporter) throws Exception {
+        assertInstanceOf(VirtualThreadExecutor.class, ((TomcatWebServer) context.getWebServer()).getTomcat()
+                .getConnector().getProtocolHandler().getExecutor());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/admin/users?size=10"))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        try (PoolSampler sampler = new PoolSampler(pool());
+             HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+            responses.forEach(response -> assertEquals(200, response.join().statusCode()));
+
+            assertTrue(sampler.peakActive() <= POOL_SIZE);
+            BenchmarkReport.publish(reporter, "%d concurrent HTTP requests: %.1f ms, peak active connections %d, "
+                            + "peak threads waiting for a connection %d, pinned %d",
+                    CONCURRENCY, (System.nanoTime() - start) / 1_000_000.0, sampler.peakActive(),
+                    sampler.peakWaiting(), pinningMonitor.getPinnedEvents());
+        }
+    }
+
+    @Test
+    void virtualThreadsQueueOnConnectionPool(TestReporter reporter) throws Exception {
+        long start = System.nanoTime();
+        try (PoolSampler sampler = new PoolSampler(pool());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                tasks.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    userRepository.count();
+                    sleep(HOLD_MILLIS);
+                })));
+            }
+            for (Future<?> task : tasks) {
+                task.get(1, TimeUnit.MINUTES);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(POOL_SIZE, sampler.peakActive());
+            assertTrue(sampler.peakWaiting() > 0);
+            assertTrue(elapsedMillis >= CONCURRENCY / POOL_SIZE * HOLD_MILLIS);
+            BenchmarkReport.publish(reporter, "%d virtual threads holding a connection for %d ms: %d ms "
+                            + "(pool bound %d ms), peak active connections %d, peak threads waiting %d, pinned %d",
+                    CONCURRENCY, HOLD_MILLIS, elapsedMillis, CONCURRENCY / POOL_SIZE * HOLD_MILLIS,
+                    sampler.peakActive(), sampler.peakWaiting(), pinningMonitor.getPinnedEvents());
+        }
+    }
+
+    private HikariPoolMXBean pool() throws Exception {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class PoolSampler implements AutoCloseable {
+        private final AtomicInteger peakActive = new AtomicInteger();
+        private final AtomicInteger peakWaiting = new AtomicInteger();
+        private final Thread sampler;
+        private volatile boolean running = true;
+
+        private PoolSampler(HikariPoolMXBean pool) {
+            sampler = Thread.ofPlatform().daemon().start(() -> {
+                while (running) {
+                    peakActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+                    peakWaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                    sleep(1);
+                }
+            });
+        }
+
+        private int peakActive() {
+            return peakActive.get();
+        }
+
+        private int peakWaiting() {
+            return peakWaiting.get();
+        }
+
+        @Override
+        public void close() {
+            running = false;
+            try {
+                sampler.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
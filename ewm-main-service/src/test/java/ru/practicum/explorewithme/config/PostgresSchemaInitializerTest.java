@@ -0,0 +1,80 @@
+package ru.practicum.explorewithme.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresSchemaInitializerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @Mock
+    private Statement statement;
+
+    private PostgresSchemaInitializer initializer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        initializer = new PostgresSchemaInitializer(dataSource);
+    }
+
+    @Test
+    void run_whenStatementFails_shouldStillApplyTheRest() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute(anyString())).thenAnswer(invocation -> {
+            if (invocation.<String>getArgument(0).contains("uq_users_email_lower")) {
+                throw new SQLException("could not create unique index");
+            }
+            return false;
+        });
+
+        initializer.run(null);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeast(2)).execute(sql.capture());
+        List<String> executed = sql.getAllValues();
+        assertTrue(executed.get(0).startsWith("CREATE UNIQUE INDEX IF NOT EXISTS uq_users_email_lower"));
+        assertTrue(executed.stream().anyMatch(s -> s.contains("idx_events_search_vector")));
+        assertFalse(executed.stream().anyMatch(s -> s.endsWith(";")));
+        assertEquals(executed.size(), executed.stream().distinct().count());
+    }
+
+    @Test
+    void run_whenNotPostgres_shouldSkipScript() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+        initializer.run(null);
+
+        verify(statement, never()).execute(anyString());
+    }
+}
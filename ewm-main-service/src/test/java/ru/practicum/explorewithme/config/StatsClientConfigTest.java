@@ -2,11 +2,17 @@ package ru.practicum.explorewithme.config;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import ru.practicum.stats.client.StatsClient;
+import ru.practicum.stats.client.StatsTransportSettings;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @SpringBootTest
@@ -17,6 +23,9 @@ class StatsClientConfigTest {
     @Autowired(required = false)
     private StatsClient statsClient;
 
+    @Autowired
+    private HealthIndicator statsServerHealthIndicator;
+
     @Test
     void statsClientBeanShouldBeCreated() {
         assertNotNull(statsClient, "StatsClient должен быть создан как Spring bean");
@@ -26,4 +35,21 @@ class StatsClientConfigTest {
     void statsClientShouldBeConfiguredWithCorrectUrl() {
         assertNotNull(statsClient);
     }
+
+    @Test
+    void statsClientShouldUsePooledTransportWithTimeouts() {
+        StatsTransportSettings settings = statsClient.getTransport().getSettings();
+
+        assertEquals(Duration.ofSeconds(2), settings.getResponseTimeout());
+        assertEquals(20, settings.getMaxConnectionsPerRoute());
+        assertEquals(50, settings.getMaxConnections());
+        assertEquals(100, statsClient.getTransport().getMaxConnections());
+    }
+
+    @Test
+    void statsServerHealthShouldExposeCircuitState() {
+        Health health = statsServerHealthIndicator.health();
+
+        assertEquals(statsClient.getCircuitBreaker().getState(), health.getDetails().get("circuit"));
+    }
 }
\ No newline at end of file
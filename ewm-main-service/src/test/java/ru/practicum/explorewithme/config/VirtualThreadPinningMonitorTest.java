@@ -0,0 +1,54 @@
+package ru.practicum.explorewithme.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningMonitorTest {
+
+    private static final String PROBE_THREAD = "pinning-monitor-probe";
+
+    @Test
+    void shouldCountVirtualThreadsBlockedInsideSynchronized() throws Exception {
+        Object lock = new Object();
+        CountDownLatch probePinned = new CountDownLatch(1);
+        try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+             RecordingStream probe = new RecordingStream()) {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            monitor.bindTo(registry);
+            probe.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(10));
+            probe.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (event.getThread() != null && PROBE_THREAD.equals(event.getThread().getJavaName())) {
+                    probePinned.countDown();
+                }
+            });
+            probe.startAsync();
+
+            Thread.ofVirtual().name(PROBE_THREAD).start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            assertTrue(probePinned.await(10, TimeUnit.SECONDS));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (monitor.getPinnedEvents() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+
+            assertTrue(monitor.getPinnedEvents() >= 1);
+            assertTrue(registry.get("jvm.threads.virtual.pinned").functionCounter().count() >= 1.0);
+            assertTrue(registry.get("jvm.threads.virtual.pinned.time").functionCounter().count() >= 0.05);
+        }
+    }
+}
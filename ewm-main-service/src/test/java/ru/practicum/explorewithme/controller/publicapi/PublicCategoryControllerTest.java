@@ -0,0 +1,58 @@
+package ru.practicum.explorewithme.controller.publicapi;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.explorewithme.dto.CategoryDto;
+import ru.practicum.explorewithme.service.CategoryService;
+
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PublicCategoryController.class)
+class PublicCategoryControllerTest {
+
+    private static final String ETAG = "\"categories-1a2b-1\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CategoryService categoryService;
+
+    @Test
+    void getCategories_shouldReturnETag() throws Exception {
+        when(categoryService.getCategoriesVersion()).thenReturn("1a2b-1");
+        when(categoryService.getCategories(0, 10)).thenReturn(List.of(new CategoryDto(1L, "Концерты")));
+
+        mockMvc.perform(get("/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$[0].name").value("Концерты"));
+    }
+
+    @Test
+    void getCategories_whenETagMatches_shouldReturn304() throws Exception {
+        when(categoryService.getCategoriesVersion()).thenReturn("1a2b-1");
+
+        mockMvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/categories/1").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified());
+
+        verify(categoryService, never()).getCategories(0, 10);
+        verify(categoryService, never()).getCategoryById(1L);
+    }
+}
@@ -7,16 +7,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.explorewithme.dto.CursorPage;
 import ru.practicum.explorewithme.dto.EventShortDto;
 import ru.practicum.explorewithme.service.EventService;
+import ru.practicum.explorewithme.util.KeysetCursor;
 import ru.practicum.stats.client.StatsClient;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -63,6 +67,19 @@ class PublicEventControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Test Event"));
     }
 
+    @Test
+    void getEvents_whenCursorGiven_shouldReturnNextCursorHeader() throws Exception {
+        when(eventService.getEventsPublicByCursor(any(), any(), any(), any(), any(), any(), any(), eq(""), eq(1)))
+                .thenReturn(new CursorPage<>(List.of(eventShortDto), "next"));
+
+        mockMvc.perform(get("/events")
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(KeysetCursor.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
     @Test
     void getEvents_whenWithTextFilter_shouldReturnFiltered() throws Exception {
         when(eventService.getEventsPublic(any(), any(), any(), any(), any(), any(), any(), any(), any()))
@@ -4,16 +4,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import ru.practicum.explorewithme.model.Category;
 import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.ParticipationRequest;
 import ru.practicum.explorewithme.model.User;
 import ru.practicum.explorewithme.model.enums.EventState;
+import ru.practicum.explorewithme.model.enums.RequestStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -34,6 +38,15 @@ class EventRepositoryTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private EventViewCountRepository eventViewCountRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User user;
     private Category category;
     private Event event;
@@ -135,4 +148,118 @@ class EventRepositoryTest {
         assertEquals("New Event", saved.getTitle());
         assertEquals(EventState.PENDING, saved.getState());
     }
-}
\ No newline at end of file
+
+    @Test
+    void incrementConfirmedRequests_shouldNotExceedParticipantLimit() {
+        assertEquals(1, eventRepository.incrementConfirmedRequests(event.getId(), 9));
+        assertEquals(0, eventRepository.incrementConfirmedRequests(event.getId(), 2));
+        assertEquals(1, eventRepository.incrementConfirmedRequests(event.getId(), 1));
+        assertEquals(0, eventRepository.incrementConfirmedRequests(event.getId(), 1));
+
+        assertEquals(10L, eventRepository.findById(event.getId()).orElseThrow().getConfirmedRequests());
+    }
+
+    @Test
+    void save_withStaleEntity_shouldNotOverwriteConfirmedRequests() {
+        Event stale = eventRepository.findById(event.getId()).orElseThrow();
+        eventRepository.incrementConfirmedRequests(event.getId(), 3);
+
+        stale.setTitle("Updated title");
+        eventRepository.saveAndFlush(stale);
+        entityManager.clear();
+
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals("Updated title", reloaded.getTitle());
+        assertEquals(3L, reloaded.getConfirmedRequests());
+    }
+
+    @Test
+    void decrementConfirmedRequests_shouldNotGoBelowZero() {
+        assertEquals(0, eventRepository.decrementConfirmedRequests(event.getId(), 1));
+
+        eventRepository.incrementConfirmedRequests(event.getId(), 1);
+        assertEquals(1, eventRepository.decrementConfirmedRequests(event.getId(), 1));
+        assertEquals(0L, eventRepository.findById(event.getId()).orElseThrow().getConfirmedRequests());
+    }
+
+    @Test
+    void recountConfirmedRequests_shouldRepairDrift() {
+        User requester = userRepository.save(User.builder()
+                .name("Requester")
+                .email("requester@example.com")
+                .build());
+        requestRepository.save(ParticipationRequest.builder()
+                .created(LocalDateTime.now())
+                .event(event)
+                .requester(requester)
+                .status(RequestStatus.CONFIRMED)
+                .build());
+
+        List<Long> drifted = eventRepository.findIdsWithConfirmedRequestsDrift(RequestStatus.CONFIRMED);
+        assertEquals(List.of(event.getId()), drifted);
+
+        eventRepository.recountConfirmedRequests(drifted, RequestStatus.CONFIRMED);
+
+        assertEquals(1L, eventRepository.findById(event.getId()).orElseThrow().getConfirmedRequests());
+        assertTrue(eventRepository.findIdsWithConfirmedRequestsDrift(RequestStatus.CONFIRMED).isEmpty());
+    }
+
+    @Test
+    void findEventsPublicSortedByViews_shouldOrderByProjectedViews() {
+        Event quiet = savePublishedEvent("Quiet event");
+        Event popular = savePublishedEvent("Popular event");
+        Event unseen = savePublishedEvent("Unseen event");
+        eventViewCountRepository.upsertAll(Map.of(quiet.getId(), 2L, popular.getId(), 40L), LocalDateTime.now());
+
+        List<Object[]> rows = eventRepository.findEventsPublicSortedByViews(
+                null, null, null, null, null, false, 0, 10);
+
+        assertEquals(List.of(popular.getId(), quiet.getId(), unseen.getId()),
+                rows.stream().map(row -> ((Number) row[0]).longValue()).toList());
+        assertEquals(40L, ((Number) rows.get(0)[14]).longValue());
+        assertEquals(0L, ((Number) rows.get(2)[14]).longValue());
+        assertEquals(category.getName(), rows.get(0)[16]);
+        assertEquals(user.getName(), rows.get(0)[17]);
+    }
+
+    @Test
+    void findPublishedIdsByRelevance_shouldRankAnnotationMatchesFirst() {
+        Event inDescription = savePublishedEvent("Lecture", "Лекция о городской архитектуре",
+                "В конце вечера будет джазовый концерт во дворе");
+        Event inAnnotation = savePublishedEvent("Concert", "Джазовый концерт под открытым небом",
+                "Подробности программы появятся позже");
+        savePublishedEvent("Exhibition", "Выставка современной фотографии",
+                "Работы молодых фотографов со всей страны");
+        event.setAnnotation("Ещё один джазовый концерт, пока не опубликован");
+        eventRepository.save(event);
+
+        List<Long> ids = eventRepository.findPublishedIdsByRelevance("ДЖАЗОВЫЙ", null, null,
+                LocalDateTime.now(), null, false, 0, 10);
+
+        assertEquals(List.of(inAnnotation.getId(), inDescription.getId()), ids);
+        assertEquals(List.of(inDescription.getId()), eventRepository.findPublishedIdsByRelevance("джазовый",
+                null, null, LocalDateTime.now(), null, false, 1, 10));
+        assertTrue(eventRepository.findPublishedIdsByRelevance("джазовый", List.of(category.getId() + 1),
+                null, LocalDateTime.now(), null, false, 0, 10).isEmpty());
+    }
+
+    private Event savePublishedEvent(String title) {
+        return savePublishedEvent(title, "Test annotation", "Test description");
+    }
+
+    private Event savePublishedEvent(String title, String annotation, String description) {
+        return eventRepository.save(Event.builder()
+                .annotation(annotation)
+                .description(description)
+                .category(category)
+                .createdOn(LocalDateTime.now())
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .initiator(user)
+                .paid(false)
+                .participantLimit(0)
+                .requestModeration(true)
+                .state(EventState.PUBLISHED)
+                .title(title)
+                .build());
+    }
+}
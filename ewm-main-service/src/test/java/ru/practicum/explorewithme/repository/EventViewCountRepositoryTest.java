@@ -0,0 +1,64 @@
+package ru.practicum.explorewithme.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import ru.practicum.explorewithme.model.EventViewCount;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.yml")
+class EventViewCountRepositoryTest {
+
+    @Autowired
+    private EventViewCountRepository eventViewCountRepository;
+
+    @Test
+    void upsertAll_shouldInsertNewAndUpdateExistingCounts() {
+        LocalDateTime firstRefresh = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MILLIS);
+        eventViewCountRepository.upsertAll(Map.of(1L, 5L, 2L, 3L), firstRefresh);
+
+        LocalDateTime secondRefresh = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        int upserted = eventViewCountRepository.upsertAll(Map.of(2L, 7L, 3L, 1L), secondRefresh);
+
+        assertEquals(2, upserted);
+        assertEquals(3, eventViewCountRepository.count());
+        assertEquals(5L, views(1L));
+        assertEquals(7L, views(2L));
+        assertEquals(1L, views(3L));
+    }
+
+    @Test
+    void resetAll_shouldZeroOnlyGivenNonZeroCounts() {
+        LocalDateTime firstRefresh = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MILLIS);
+        eventViewCountRepository.upsertAll(Map.of(1L, 5L, 2L, 3L, 3L, 0L), firstRefresh);
+
+        LocalDateTime secondRefresh = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        assertEquals(1, eventViewCountRepository.resetAll(List.of(1L, 3L), secondRefresh));
+
+        assertEquals(0L, views(1L));
+        assertEquals(3L, views(2L));
+        assertEquals(secondRefresh, eventViewCountRepository.findById(1L).orElseThrow().getUpdatedAt());
+        assertEquals(firstRefresh, eventViewCountRepository.findById(3L).orElseThrow().getUpdatedAt());
+    }
+
+    @Test
+    void findAllViews_shouldReturnCountsByEvent() {
+        eventViewCountRepository.upsertAll(Map.of(1L, 5L, 2L, 0L), LocalDateTime.now());
+
+        assertEquals(Map.of(1L, 5L, 2L, 0L), eventViewCountRepository.findAllViews());
+    }
+
+    private Long views(Long eventId) {
+        return eventViewCountRepository.findById(eventId).map(EventViewCount::getViews).orElseThrow();
+    }
+}
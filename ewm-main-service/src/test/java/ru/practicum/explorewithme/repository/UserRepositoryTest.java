@@ -3,6 +3,7 @@ package ru.practicum.explorewithme.repository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import ru.practicum.explorewithme.model.User;
@@ -10,7 +11,9 @@ import ru.practicum.explorewithme.model.User;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -46,4 +49,25 @@ class UserRepositoryTest {
 
         assertEquals(2, users.size());
     }
+
+    @Test
+    void findByIdGreaterThan_shouldSeekPastCursor() {
+        User first = userRepository.save(User.builder().name("First").email("first@example.com").build());
+        User second = userRepository.save(User.builder().name("Second").email("second@example.com").build());
+        User third = userRepository.save(User.builder().name("Third").email("third@example.com").build());
+
+        assertEquals(List.of(second.getId()), userRepository.findByIdGreaterThanOrderByIdAsc(first.getId(),
+                Limit.of(1)).stream().map(User::getId).toList());
+        assertEquals(List.of(third.getId()), userRepository.findByIdInAndIdGreaterThanOrderByIdAsc(
+                List.of(first.getId(), third.getId()), first.getId(), Limit.of(10)).stream().map(User::getId).toList());
+    }
+
+    @Test
+    void existsByEmailIgnoreCase() {
+        userRepository.save(User.builder().name("User").email("Mixed.Case@Example.com").build());
+
+        assertTrue(userRepository.existsByEmailIgnoreCase("mixed.case@example.com"));
+        assertTrue(userRepository.existsByEmailIgnoreCase("MIXED.CASE@EXAMPLE.COM"));
+        assertFalse(userRepository.existsByEmailIgnoreCase("other@example.com"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package ru.practicum.explorewithme.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.explorewithme.dto.CategoryDto;
+import ru.practicum.explorewithme.model.Category;
+import ru.practicum.explorewithme.repository.CategoryRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryDictionaryServiceImplTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private CategoryDictionaryServiceImpl categoryDictionaryService;
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findAll()).thenReturn(List.of(
+                Category.builder().id(2L).name("Выставки").build(),
+                Category.builder().id(1L).name("Концерты").build(),
+                Category.builder().id(3L).name("Лекции").build()));
+    }
+
+    @Test
+    void find_whenLoaded_shouldNotQueryRepository() {
+        assertEquals(3, categoryDictionaryService.reload());
+
+        assertEquals(Optional.of(new CategoryDto(2L, "Выставки")), categoryDictionaryService.find(2L));
+        assertEquals(Optional.of(new CategoryDto(1L, "Концерты")), categoryDictionaryService.find(1L));
+        verify(categoryRepository, times(0)).findById(1L);
+    }
+
+    @Test
+    void find_whenMissing_shouldFallBackToRepository() {
+        when(categoryRepository.findById(4L)).thenReturn(Optional.empty());
+
+        assertTrue(categoryDictionaryService.find(4L).isEmpty());
+        verify(categoryRepository).findAll();
+        verify(categoryRepository).findById(4L);
+    }
+
+    @Test
+    void getPage_shouldReturnCategoriesOrderedById() {
+        assertEquals(List.of(1L, 2L, 3L), ids(categoryDictionaryService.getPage(0, 10)));
+        assertEquals(List.of(2L), ids(categoryDictionaryService.getPage(1, 1)));
+        assertTrue(categoryDictionaryService.getPage(5, 10).isEmpty());
+    }
+
+    @Test
+    void onCategoryChanged_shouldUpdateDictionaryAndVersion() {
+        String initial = categoryDictionaryService.getVersion();
+
+        categoryDictionaryService.onCategorySaved(Category.builder().id(1L).name("Фестивали").build());
+        String renamed = categoryDictionaryService.getVersion();
+        assertNotEquals(initial, renamed);
+        assertEquals("Фестивали", categoryDictionaryService.find(1L).orElseThrow().getName());
+
+        categoryDictionaryService.onCategoryDeleted(3L);
+        assertNotEquals(renamed, categoryDictionaryService.getVersion());
+        assertEquals(List.of(1L, 2L), ids(categoryDictionaryService.getPage(0, 10)));
+
+        categoryDictionaryService.onCategoryDeleted(99L);
+        categoryDictionaryService.onCategorySaved(Category.builder().id(3L).name("Лекции").build());
+        categoryDictionaryService.onCategorySaved(Category.builder().id(1L).name("Концерты").build());
+        assertEquals(initial, categoryDictionaryService.getVersion());
+        verify(categoryRepository).findAll();
+    }
+
+    @Test
+    void onCategorySaved_inTransaction_shouldBeVisibleToTransactionOnlyUntilCommit() {
+        categoryDictionaryService.reload();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            categoryDictionaryService.onCategorySaved(Category.builder().id(4L).name("Фестивали").build());
+
+            assertEquals("Фестивали", categoryDictionaryService.find(4L).orElseThrow().getName());
+            assertEquals(4, categoryDictionaryService.getPage(0, 10).size());
+
+            List<TransactionSynchronization> synchronizations =
+                    TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(4, categoryDictionaryService.getPage(0, 10).size());
+        verify(categoryRepository).findAll();
+    }
+
+    @Test
+    void onCategorySaved_whenRolledBack_shouldDiscardChange() {
+        categoryDictionaryService.reload();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            categoryDictionaryService.onCategorySaved(Category.builder().id(4L).name("Фестивали").build());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(3, categoryDictionaryService.getPage(0, 10).size());
+    }
+
+    private List<Long> ids(List<CategoryDto> categories) {
+        return categories.stream().map(CategoryDto::getId).toList();
+    }
+}
@@ -32,6 +32,9 @@ class CategoryServiceImplTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private CategoryDictionaryService categoryDictionaryService;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -67,6 +70,7 @@ class CategoryServiceImplTest {
         assertEquals(1L, result.getId());
         assertEquals("Концерты", result.getName());
         verify(categoryRepository).save(any(Category.class));
+        verify(categoryDictionaryService).onCategorySaved(category);
     }
 
     @Test
@@ -110,6 +114,7 @@ class CategoryServiceImplTest {
         categoryService.deleteCategory(1L);
 
         verify(categoryRepository).deleteById(1L);
+        verify(categoryDictionaryService).onCategoryDeleted(1L);
     }
 
     @Test
@@ -123,7 +128,7 @@ class CategoryServiceImplTest {
 
     @Test
     void getCategoryById_whenExists_shouldReturnCategory() {
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(categoryDictionaryService.find(1L)).thenReturn(Optional.of(categoryDto));
 
         CategoryDto result = categoryService.getCategoryById(1L);
 
@@ -133,7 +138,7 @@ class CategoryServiceImplTest {
 
     @Test
     void getCategoryById_whenNotFound_shouldThrowNotFoundException() {
-        when(categoryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(categoryDictionaryService.find(1L)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
                 categoryService.getCategoryById(1L));
@@ -0,0 +1,100 @@
+package ru.practicum.explorewithme.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.explorewithme.dto.CompilationDto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CompilationCacheServiceImplTest {
+
+    private final CompilationCacheServiceImpl cache =
+            new CompilationCacheServiceImpl(true, Duration.ofMinutes(1), 100);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void getCompilation_shouldLoadOnceUntilCompilationChanges() {
+        CompilationDto first = cache.getCompilation(1L, loader(1L, Set.of(10L)));
+        assertSame(first, cache.getCompilation(1L, loader(1L, Set.of(10L))));
+        assertEquals(1, loads.get());
+
+        cache.onCompilationChanged(1L);
+
+        cache.getCompilation(1L, loader(1L, Set.of(10L)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onEventChanged_shouldEvictOnlyCompilationsContainingEvent() {
+        cache.getCompilation(1L, loader(1L, Set.of(10L, 11L)));
+        cache.getCompilation(2L, loader(2L, Set.of(20L)));
+        List<CompilationDto> pinned = cache.getPinned(pinnedLoader());
+        assertEquals(3, loads.get());
+
+        cache.onEventChanged(20L);
+
+        cache.getCompilation(1L, loader(1L, Set.of(10L, 11L)));
+        assertSame(pinned, cache.getPinned(pinnedLoader()));
+        assertEquals(3, loads.get());
+        cache.getCompilation(2L, loader(2L, Set.of(20L)));
+        assertEquals(4, loads.get());
+
+        cache.onEventChanged(11L);
+
+        cache.getPinned(pinnedLoader());
+        cache.getCompilation(1L, loader(1L, Set.of(10L, 11L)));
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    void getCompilation_whenTransactionChangedCompilations_shouldNotCacheUntilCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.onCompilationChanged(1L);
+            cache.getCompilation(1L, loader(1L, Set.of()));
+            cache.getCompilation(1L, loader(1L, Set.of()));
+            assertEquals(2, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.getCompilation(1L, loader(1L, Set.of()));
+        cache.getCompilation(1L, loader(1L, Set.of()));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void whenDisabled_shouldAlwaysLoad() {
+        CompilationCacheServiceImpl disabled = new CompilationCacheServiceImpl(false, Duration.ofMinutes(1), 100);
+
+        disabled.getCompilation(1L, loader(1L, Set.of()));
+        disabled.getCompilation(1L, loader(1L, Set.of()));
+        disabled.getPinned(pinnedLoader());
+
+        assertEquals(3, loads.get());
+    }
+
+    private Supplier<CompilationCacheService.CachedCompilation> loader(Long compId, Set<Long> eventIds) {
+        return () -> {
+            loads.incrementAndGet();
+            return new CompilationCacheService.CachedCompilation(
+                    CompilationDto.builder().id(compId).title("Подборка " + compId).pinned(true).build(), eventIds);
+        };
+    }
+
+    private Supplier<List<CompilationCacheService.CachedCompilation>> pinnedLoader() {
+        return () -> List.of(loader(1L, Set.of(10L, 11L)).get());
+    }
+}
@@ -0,0 +1,115 @@
+package ru.practicum.explorewithme.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.explorewithme.dto.CompilationDto;
+import ru.practicum.explorewithme.model.Category;
+import ru.practicum.explorewithme.model.Compilation;
+import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.User;
+import ru.practicum.explorewithme.model.enums.EventState;
+import ru.practicum.explorewithme.repository.CategoryRepository;
+import ru.practicum.explorewithme.repository.CompilationRepository;
+import ru.practicum.explorewithme.repository.EventRepository;
+import ru.practicum.explorewithme.repository.UserRepository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static ru.practicum.explorewithme.service.EventTestFixture.countStatements;
+import static ru.practicum.explorewithme.service.EventTestFixture.publishedEvent;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "ewm.compilations-cache.enabled=false"
+})
+@Transactional
+@ActiveProfiles("test")
+class CompilationServiceStatementCountTest {
+
+    private static final int COMPILATIONS = 10;
+    private static final int EVENTS_PER_COMPILATION = 20;
+
+    @Autowired
+    private CompilationService compilationService;
+
+    @Autowired
+    private CompilationRepository compilationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private EventViewsService eventViewsService;
+
+    private Long compilationId;
+
+    @BeforeEach
+    void setUp() {
+        when(eventViewsService.getViews(any())).thenReturn(Map.of());
+
+        for (int i = 0; i < COMPILATIONS; i++) {
+            Set<Event> events = new HashSet<>();
+            for (int j = 0; j < EVENTS_PER_COMPILATION; j++) {
+                events.add(saveEvent(j % 4 == 0 ? EventState.PENDING : EventState.PUBLISHED));
+            }
+            compilationId = compilationRepository.save(Compilation.builder()
+                    .title("Подборка " + i)
+                    .pinned(i % 2 == 0)
+                    .events(events)
+                    .build()).getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getCompilations_shouldLoadPageAndMembersInTwoStatements() {
+        List<CompilationDto> page = compilationService.getCompilations(null, 0, COMPILATIONS);
+        assertEquals(COMPILATIONS, page.size());
+        assertEquals(EVENTS_PER_COMPILATION * 3 / 4, page.get(0).getEvents().size());
+        assertNotNull(page.get(0).getEvents().get(0).getCategory().getName());
+        assertNotNull(page.get(0).getEvents().get(0).getInitiator().getName());
+
+        assertEquals(2, countStatements(entityManager, () -> compilationService.getCompilations(null, 0, COMPILATIONS)));
+        assertEquals(2, countStatements(entityManager, () -> compilationService.getCompilations(false, 0, COMPILATIONS)));
+        assertEquals(2, countStatements(entityManager, () -> compilationService.getCompilations(true, 0, COMPILATIONS)));
+        assertEquals(2, countStatements(entityManager, () -> List.of(compilationService.getCompilationById(compilationId))));
+    }
+
+    private Event saveEvent(EventState state) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User initiator = userRepository.save(User.builder()
+                .name("initiator" + suffix)
+                .email("initiator" + suffix + "@example.com")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("Категория " + suffix)
+                .build());
+        return eventRepository.save(publishedEvent(category, initiator)
+                .state(state)
+                .build());
+    }
+}
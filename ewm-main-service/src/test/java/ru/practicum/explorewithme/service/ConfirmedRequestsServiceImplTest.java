@@ -0,0 +1,76 @@
+package ru.practicum.explorewithme.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.explorewithme.exception.ConflictException;
+import ru.practicum.explorewithme.model.enums.RequestStatus;
+import ru.practicum.explorewithme.repository.EventRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmedRequestsServiceImplTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private ConfirmedRequestsServiceImpl confirmedRequestsService;
+
+    @Test
+    void addConfirmed_whenWithinLimit_shouldIncrementCounter() {
+        when(eventRepository.incrementConfirmedRequests(1L, 2)).thenReturn(1);
+
+        assertDoesNotThrow(() -> confirmedRequestsService.addConfirmed(1L, 2));
+    }
+
+    @Test
+    void addConfirmed_whenLimitExceeded_shouldThrowConflictException() {
+        when(eventRepository.incrementConfirmedRequests(1L, 1)).thenReturn(0);
+
+        assertThrows(ConflictException.class, () -> confirmedRequestsService.addConfirmed(1L, 1));
+    }
+
+    @Test
+    void addConfirmed_whenNothingConfirmed_shouldNotUpdate() {
+        confirmedRequestsService.addConfirmed(1L, 0);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void removeConfirmed_shouldDecrementCounter() {
+        when(eventRepository.decrementConfirmedRequests(1L, 1)).thenReturn(0);
+
+        assertDoesNotThrow(() -> confirmedRequestsService.removeConfirmed(1L, 1));
+        verify(eventRepository).decrementConfirmedRequests(1L, 1);
+    }
+
+    @Test
+    void reconcile_shouldRecountOnlyDriftedEvents() {
+        when(eventRepository.findIdsWithConfirmedRequestsDrift(RequestStatus.CONFIRMED)).thenReturn(List.of(3L, 7L));
+        when(eventRepository.recountConfirmedRequests(List.of(3L, 7L), RequestStatus.CONFIRMED)).thenReturn(2);
+
+        assertEquals(2, confirmedRequestsService.reconcile());
+    }
+
+    @Test
+    void reconcile_whenNoDrift_shouldNotUpdate() {
+        when(eventRepository.findIdsWithConfirmedRequestsDrift(RequestStatus.CONFIRMED)).thenReturn(List.of());
+
+        assertEquals(0, confirmedRequestsService.reconcile());
+        verify(eventRepository, never()).recountConfirmedRequests(any(), any());
+    }
+}
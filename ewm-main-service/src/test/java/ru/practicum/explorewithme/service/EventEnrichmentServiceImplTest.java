@@ -0,0 +1,91 @@
+package ru.practicum.explorewithme.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.explorewithme.service.EventEnrichmentService.EventEnrichment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventEnrichmentServiceImplTest {
+
+    @Mock
+    private EventViewsService eventViewsService;
+
+    private EventEnrichmentServiceImpl service;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        service = new EventEnrichmentServiceImpl(eventViewsService, Duration.ofMillis(200));
+        registry = new SimpleMeterRegistry();
+        service.bindTo(registry);
+    }
+
+    @Test
+    void start_whenViewsArriveBeforeDeadline_shouldReturnThem() {
+        when(eventViewsService.getViewsAsync(List.of(1L, 2L)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(1L, 5L, 2L, 0L)));
+
+        EventEnrichment enrichment = service.start(List.of(1L, 2L), null, null);
+
+        assertEquals(Map.of(1L, 5L, 2L, 0L), enrichment.getViews());
+        assertEquals(0.0, timeouts());
+    }
+
+    @Test
+    void start_withExplicitWindow_shouldRequestViewsForThatWindow() {
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        LocalDateTime end = LocalDateTime.now();
+        when(eventViewsService.getViewsAsync(List.of(1L), start, end))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(1L, 3L)));
+
+        assertEquals(Map.of(1L, 3L), service.start(List.of(1L), start, end).getViews());
+        verify(eventViewsService).getViewsAsync(List.of(1L), start, end);
+    }
+
+    @Test
+    void start_whenViewsMissDeadline_shouldDegradeToZerosWithoutWaitingForStats() {
+        when(eventViewsService.getViewsAsync(List.of(1L, 2L))).thenReturn(new CompletableFuture<>());
+
+        long started = System.nanoTime();
+        EventEnrichment enrichment = service.start(List.of(1L, 2L), null, null);
+
+        assertEquals(Map.of(1L, 0L, 2L, 0L), enrichment.getViews());
+        assertEquals(Map.of(1L, 0L, 2L, 0L), enrichment.getViews());
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1.0, timeouts());
+    }
+
+    @Test
+    void start_whenPageLoadUsedUpDeadline_shouldNotWaitAnyLonger() throws InterruptedException {
+        CompletableFuture<Map<Long, Long>> views = new CompletableFuture<>();
+        when(eventViewsService.getViewsAsync(List.of(1L))).thenReturn(views);
+
+        EventEnrichment enrichment = service.start(List.of(1L), null, null);
+        Thread.sleep(250);
+
+        long started = System.nanoTime();
+        assertEquals(Map.of(1L, 0L), enrichment.getViews());
+        assertTrue(System.nanoTime() - started < TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(1.0, timeouts());
+    }
+
+    private double timeouts() {
+        return registry.get("ewm.events.enrichment.timeouts").tag("enrichment", "views").functionCounter().count();
+    }
+}
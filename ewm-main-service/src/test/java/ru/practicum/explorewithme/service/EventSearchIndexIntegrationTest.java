@@ -0,0 +1,100 @@
+package ru.practicum.explorewithme.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.explorewithme.dto.EventShortDto;
+import ru.practicum.explorewithme.model.Category;
+import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.User;
+import ru.practicum.explorewithme.repository.CategoryRepository;
+import ru.practicum.explorewithme.repository.EventRepository;
+import ru.practicum.explorewithme.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static ru.practicum.explorewithme.service.EventTestFixture.countStatements;
+import static ru.practicum.explorewithme.service.EventTestFixture.publishedEvent;
+
+@SpringBootTest(properties = {
+        "ewm.event-search.in-memory.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional
+@ActiveProfiles("test")
+class EventSearchIndexIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventSearchIndexService eventSearchIndexService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private EventViewsService eventViewsService;
+
+    private Event concert;
+    private Event lecture;
+
+    @BeforeEach
+    void setUp() {
+        when(eventViewsService.getViews(any())).thenReturn(Map.of());
+        when(eventViewsService.getViewsAsync(any())).thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+        User initiator = userRepository.save(User.builder().name("Организатор").email("index@example.com").build());
+        Category category = categoryRepository.save(Category.builder().name("Индекс").build());
+        concert = saveEvent(initiator, category, "Джазовый концерт", LocalDateTime.now().plusDays(2));
+        lecture = saveEvent(initiator, category, "Лекция о джазе", LocalDateTime.now().plusDays(1));
+        saveEvent(initiator, category, "Выставка", LocalDateTime.now().plusDays(3));
+        entityManager.flush();
+        entityManager.clear();
+
+        eventSearchIndexService.rebuild();
+    }
+
+    @Test
+    void getEventsPublic_whenIndexReady_shouldOnlyHydrateMatchedEvents() {
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsPublic("джаз", null, null,
+                null, null, false, "EVENT_DATE", 0, 10)));
+
+        List<EventShortDto> byDate = eventService.getEventsPublic("джаз", null, null, null, null, false,
+                "EVENT_DATE", 0, 10);
+        assertEquals(List.of(lecture.getId(), concert.getId()), byDate.stream().map(EventShortDto::getId).toList());
+        assertEquals("Индекс", byDate.get(0).getCategory().getName());
+        assertEquals(List.of(lecture.getId()), eventService.getEventsPublic("о джазе", null, null, null, null, false,
+                "EVENT_DATE", 0, 10).stream().map(EventShortDto::getId).toList());
+    }
+
+    private Event saveEvent(User initiator, Category category, String title, LocalDateTime eventDate) {
+        return eventRepository.save(publishedEvent(category, initiator)
+                .annotation(title + ": аннотация события")
+                .description("Описание события " + title)
+                .eventDate(eventDate)
+                .participantLimit(0)
+                .title(title)
+                .build());
+    }
+}
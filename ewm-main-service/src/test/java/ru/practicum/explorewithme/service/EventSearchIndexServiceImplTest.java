@@ -0,0 +1,84 @@
+package ru.practicum.explorewithme.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.explorewithme.model.Category;
+import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.enums.EventState;
+import ru.practicum.explorewithme.repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventSearchIndexServiceImplTest {
+
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.now().plusDays(5);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Test
+    void rebuild_shouldIndexStreamedPublishedEvents() {
+        EventSearchIndexServiceImpl service = new EventSearchIndexServiceImpl(eventRepository, true);
+        when(eventRepository.streamSearchDocuments(EventState.PUBLISHED)).thenReturn(Stream.of(
+                new Object[]{1L, "Джазовый вечер: живая музыка и танцы", "Описание", 7L, true, EVENT_DATE},
+                new Object[]{2L, "Лекция: история города", "Описание", 8L, false, EVENT_DATE}));
+
+        assertFalse(service.isReady());
+        assertEquals(2, service.rebuild());
+
+        assertTrue(service.isReady());
+        assertEquals(List.of(1L), service.search("джаз", null, null, LocalDateTime.now(), null, null, 0, 10));
+        assertEquals(List.of(2L), service.search(null, List.of(8L), null, LocalDateTime.now(), null,
+                "EVENT_DATE", 0, 10));
+        assertTrue(service.memoryFootprintBytes() > 0);
+    }
+
+    @Test
+    void onEventChanged_shouldUpdateIndexIncrementally() {
+        EventSearchIndexServiceImpl service = new EventSearchIndexServiceImpl(eventRepository, true);
+        when(eventRepository.streamSearchDocuments(EventState.PUBLISHED)).thenReturn(Stream.empty());
+        service.rebuild();
+
+        Event event = event(EventState.PUBLISHED);
+        service.onEventChanged(event);
+        assertEquals(List.of(3L), service.search("фестиваль", null, null, LocalDateTime.now(), null, null, 0, 10));
+
+        event.setState(EventState.CANCELED);
+        service.onEventChanged(event);
+        assertTrue(service.search("фестиваль", null, null, LocalDateTime.now(), null, null, 0, 10).isEmpty());
+    }
+
+    @Test
+    void search_whenNotBuilt_shouldThrow() {
+        EventSearchIndexServiceImpl service = new EventSearchIndexServiceImpl(eventRepository, false);
+        service.onEventChanged(event(EventState.PUBLISHED));
+
+        assertFalse(service.isReady());
+        assertThrows(IllegalStateException.class, () ->
+                service.search(null, null, null, LocalDateTime.now(), null, null, 0, 10));
+    }
+
+    private Event event(EventState state) {
+        return Event.builder()
+                .id(3L)
+                .title("Фестиваль уличной еды")
+                .annotation("Гастрономический фестиваль")
+                .description("Описание")
+                .category(Category.builder().id(9L).name("Еда").build())
+                .paid(false)
+                .eventDate(EVENT_DATE)
+                .state(state)
+                .build();
+    }
+}
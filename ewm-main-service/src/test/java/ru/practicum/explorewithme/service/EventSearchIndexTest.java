@@ -0,0 +1,87 @@
+package ru.practicum.explorewithme.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex();
+        index.put(document(1L, "Лекция о городской архитектуре", "Вечером джазовый концерт", 10L,
+                false, NOW.plusDays(3)));
+        index.put(document(2L, "Концерт под открытым небом", "Программа появится позже", 20L,
+                true, NOW.plusDays(1)));
+        index.put(document(3L, "Выставка современной фотографии", "Работы молодых фотографов", 10L,
+                false, NOW.plusDays(2)));
+    }
+
+    @Test
+    void search_shouldMatchPhraseInAnnotationOrDescriptionLikeSql() {
+        assertEquals(List.of(1L), search("ДЖАЗ", null, null, false));
+        assertEquals(List.of(3L), search("фото", null, null, false));
+        assertEquals(List.of(1L), search("джазовый концерт", null, null, false));
+        assertTrue(search("концерт джаз", null, null, false).isEmpty());
+        assertEquals(List.of(1L, 2L), search("ц", null, null, false));
+        assertTrue(search("балет", null, null, false).isEmpty());
+    }
+
+    @Test
+    void search_shouldApplyFiltersAndSortByEventDate() {
+        assertEquals(List.of(2L, 3L, 1L), search(null, null, null, true));
+        assertEquals(List.of(3L, 1L), search(null, List.of(10L), null, true));
+        assertEquals(List.of(2L), search(null, null, true, true));
+        assertEquals(List.of(3L), index.search(null, null, null, NOW.plusDays(2), NOW.plusDays(2), true, 0, 10));
+        assertEquals(List.of(3L), index.search(null, null, null, null, null, true, 1, 1));
+    }
+
+    @Test
+    void putAndRemove_shouldReplaceDocumentsIncrementally() {
+        index.put(document(2L, "Балет на льду", "Классическая программа", 20L, true, NOW.plusDays(1)));
+        index.remove(3L);
+
+        assertEquals(List.of(1L), search("джаз", null, null, false));
+        assertEquals(List.of(2L), search("балет", null, null, false));
+        assertEquals(List.of(2L, 1L), search(null, null, null, true));
+        assertEquals(2, index.size());
+        assertTrue(index.memoryFootprintBytes() > 0);
+    }
+
+    @Test
+    void apply_whenNotPublished_shouldRemoveDocument() {
+        index.apply(EventSearchIndex.Document.builder()
+                .eventId(1L)
+                .eventDate(NOW.plusDays(3))
+                .published(false)
+                .build());
+
+        assertEquals(List.of(2L), search("концерт", null, null, false));
+    }
+
+    private List<Long> search(String text, List<Long> categories, Boolean paid, boolean sortByEventDate) {
+        return index.search(text, categories, paid, NOW, null, sortByEventDate, 0, 10);
+    }
+
+    private EventSearchIndex.Document document(long id, String annotation, String description,
+                                               long categoryId, boolean paid, LocalDateTime eventDate) {
+        return EventSearchIndex.Document.builder()
+                .eventId(id)
+                .annotation(annotation)
+                .description(description)
+                .categoryId(categoryId)
+                .paid(paid)
+                .eventDate(eventDate)
+                .published(true)
+                .build();
+    }
+}
@@ -9,21 +9,25 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.explorewithme.dto.LocationDto;
 import ru.practicum.explorewithme.dto.NewEventDto;
 import ru.practicum.explorewithme.exception.NotFoundException;
+import ru.practicum.explorewithme.mapper.CategoryMapper;
 import ru.practicum.explorewithme.model.Category;
 import ru.practicum.explorewithme.model.Event;
 import ru.practicum.explorewithme.model.User;
 import ru.practicum.explorewithme.repository.CategoryRepository;
 import ru.practicum.explorewithme.repository.EventRepository;
 import ru.practicum.explorewithme.repository.UserRepository;
-import ru.practicum.stats.client.StatsClient;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +43,16 @@ class EventServiceImplTest {
     private CategoryRepository categoryRepository;
 
     @Mock
-    private StatsClient statsClient;
+    private EventEnrichmentService eventEnrichmentService;
+
+    @Mock
+    private EventSearchIndexService eventSearchIndexService;
+
+    @Mock
+    private CategoryDictionaryService categoryDictionaryService;
+
+    @Mock
+    private CompilationCacheService compilationCacheService;
 
     @InjectMocks
     private EventServiceImpl eventService;
@@ -77,7 +90,8 @@ class EventServiceImplTest {
     @Test
     void createEvent_whenValid_shouldCreateEvent() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(categoryDictionaryService.find(1L)).thenReturn(Optional.of(CategoryMapper.toCategoryDto(category)));
+        when(categoryRepository.getReferenceById(1L)).thenReturn(category);
         when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> {
             Event event = invocation.getArgument(0);
             event.setId(1L);
@@ -89,6 +103,8 @@ class EventServiceImplTest {
         assertNotNull(result);
         assertEquals("Test Event", result.getTitle());
         assertEquals("PENDING", result.getState().toString());
+        assertEquals("Концерты", result.getCategory().getName());
+        verify(categoryRepository, never()).findById(any());
     }
 
     @Test
@@ -102,7 +118,7 @@ class EventServiceImplTest {
     @Test
     void createEvent_whenCategoryNotFound_shouldThrowNotFoundException() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(categoryDictionaryService.find(1L)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
                 eventService.createEvent(1L, newEventDto));
@@ -112,7 +128,7 @@ class EventServiceImplTest {
     void createEvent_whenEventDateTooClose_shouldThrowIllegalArgumentException() {
         newEventDto.setEventDate(LocalDateTime.now().plusMinutes(30));
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(categoryDictionaryService.find(1L)).thenReturn(Optional.of(CategoryMapper.toCategoryDto(category)));
 
         assertThrows(IllegalArgumentException.class, () ->
                 eventService.createEvent(1L, newEventDto));
@@ -129,6 +145,7 @@ class EventServiceImplTest {
 
         assertThrows(NotFoundException.class, () ->
                 eventService.getEventPublic(1L));
+        verify(eventEnrichmentService, never()).start(any(), any(), any());
     }
 
     @Test
@@ -137,5 +154,30 @@ class EventServiceImplTest {
 
         assertThrows(NotFoundException.class, () ->
                 eventService.getEventPublic(1L));
+        verify(eventEnrichmentService, never()).start(any(), any(), any());
+    }
+
+    @Test
+    void getEventPublic_shouldAddViewsToPublishedEvent() {
+        when(eventEnrichmentService.start(List.of(1L), null, null)).thenReturn(() -> Map.of(1L, 7L));
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(Event.builder()
+                .id(1L)
+                .annotation("Valid annotation with more than twenty characters length")
+                .category(category)
+                .initiator(user)
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .lat(55.754167f)
+                .lon(37.62f)
+                .paid(false)
+                .participantLimit(10)
+                .requestModeration(true)
+                .state(ru.practicum.explorewithme.model.enums.EventState.PUBLISHED)
+                .title("Test Event")
+                .confirmedRequests(0L)
+                    .build()));
+
+        var result = eventService.getEventPublic(1L);
+
+        assertEquals(7L, result.getViews());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package ru.practicum.explorewithme.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.explorewithme.dto.CursorPage;
+import ru.practicum.explorewithme.dto.EventFullDto;
+import ru.practicum.explorewithme.dto.EventShortDto;
+import ru.practicum.explorewithme.model.Category;
+import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.ParticipationRequest;
+import ru.practicum.explorewithme.model.User;
+import ru.practicum.explorewithme.model.enums.RequestStatus;
+import ru.practicum.explorewithme.repository.CategoryRepository;
+import ru.practicum.explorewithme.repository.EventRepository;
+import ru.practicum.explorewithme.repository.RequestRepository;
+import ru.practicum.explorewithme.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static ru.practicum.explorewithme.service.EventTestFixture.countStatements;
+import static ru.practicum.explorewithme.service.EventTestFixture.publishedEvent;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@ActiveProfiles("test")
+class EventServiceStatementCountTest {
+
+    private static final int EVENTS = 20;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private EventViewsService eventViewsService;
+
+    @MockBean
+    private EventViewsProjectionService eventViewsProjectionService;
+
+    private User initiator;
+
+    @BeforeEach
+    void setUp() {
+        when(eventViewsService.getViews(any())).thenReturn(Map.of());
+        when(eventViewsService.getViewsAsync(any())).thenReturn(CompletableFuture.completedFuture(Map.of()));
+        when(eventViewsService.getViews(any(), any(), any())).thenReturn(Map.of());
+        when(eventViewsService.getViewsAsync(any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+        initiator = saveUser("initiator");
+        User requester = saveUser("requester");
+
+        for (int i = 0; i < EVENTS; i++) {
+            saveEvent(initiator, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(100 + i), requester);
+            saveEvent(saveUser("initiator" + i), LocalDateTime.now(), LocalDateTime.now().plusDays(i + 1), requester);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getUserEvents_shouldLoadPageInSingleStatement() {
+        assertEquals(1, countStatements(entityManager, () -> eventService.getUserEvents(initiator.getId(), 0, 5)));
+        assertEquals(1, countStatements(entityManager, () -> eventService.getUserEvents(initiator.getId(), 0, EVENTS)));
+    }
+
+    @Test
+    void getEventsByAdmin_shouldLoadPageWithoutCountQuery() {
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsByAdmin(null, null, null, null, null, 0, 5)));
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsByAdmin(null, null, null, null, null, 0,
+                EVENTS)));
+    }
+
+    @Test
+    void getEventsByCursor_shouldSeekEveryPageInSingleStatement() {
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsByAdminByCursor(null, null, null, null, null,
+                "", 5).getItems()));
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsPublicByCursor(null, null, null, null, null,
+                false, null, "", 5).getItems()));
+
+        List<Long> adminIds = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            CursorPage<EventFullDto> page = eventService.getEventsByAdminByCursor(null, null, null, null, null,
+                    cursor, 7);
+            page.getItems().forEach(event -> adminIds.add(event.getId()));
+            cursor = page.getNextCursor();
+        }
+        assertEquals(2 * EVENTS, new HashSet<>(adminIds).size());
+
+        List<Long> publicIds = new ArrayList<>();
+        cursor = "";
+        while (cursor != null) {
+            CursorPage<EventShortDto> page = eventService.getEventsPublicByCursor(null, null, null, null, null,
+                    false, "EVENT_DATE", cursor, 7);
+            page.getItems().forEach(event -> publicIds.add(event.getId()));
+            cursor = page.getNextCursor();
+        }
+        assertEquals(eventService.getEventsPublic(null, null, null, null, null, false, "EVENT_DATE", 0, 1000)
+                .stream().map(EventShortDto::getId).toList(), publicIds);
+    }
+
+    @Test
+    void getEventsPublic_whenOnlyAvailable_shouldLoadPageWithoutCountQuery() {
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsPublic(null, null, null, null, null,
+                true, "EVENT_DATE", 0, 5)));
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsPublic(null, null, null, null, null,
+                true, "EVENT_DATE", 0, EVENTS)));
+    }
+
+    @Test
+    void getEventsByAdmin_shouldPageThroughAllEventsWithoutGapsOrOverlaps() {
+        List<Long> all = eventService.getEventsByAdmin(null, null, null, null, null, 0, 1000).stream()
+                .map(EventFullDto::getId)
+                .toList();
+
+        List<Long> paged = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += 7) {
+            eventService.getEventsByAdmin(null, null, null, null, null, from, 7)
+                    .forEach(event -> paged.add(event.getId()));
+        }
+        assertEquals(2 * EVENTS, all.size());
+        assertEquals(all, paged);
+        assertEquals(all.subList(3, 8), eventService.getEventsByAdmin(null, null, null, null, null, 3, 5).stream()
+                .map(EventFullDto::getId)
+                .toList());
+    }
+
+    @Test
+    void getEventsPublic_sortedByViews_shouldResolveCategoriesAndInitiatorsInPageQuery() {
+        List<EventShortDto> page = eventService.getEventsPublic(null, null, null, null, null,
+                false, "VIEWS", 0, EVENTS);
+        assertNotNull(page.get(0).getCategory().getName());
+        assertNotNull(page.get(0).getInitiator().getName());
+
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsPublic(null, null, null, null, null,
+                false, "VIEWS", 0, 5)));
+        assertEquals(1, countStatements(entityManager, () -> eventService.getEventsPublic(null, null, null, null, null,
+                false, "VIEWS", 0, EVENTS)));
+    }
+
+    @Test
+    void getEventsPublic_byText_shouldLoadRankedIdsAndPageInTwoStatements() {
+        List<EventShortDto> page = eventService.getEventsPublic("annotation", null, null, null, null,
+                false, null, 0, EVENTS);
+        assertEquals(EVENTS, page.size());
+        assertNotNull(page.get(0).getCategory().getName());
+        assertNotNull(page.get(0).getInitiator().getName());
+
+        assertEquals(2, countStatements(entityManager, () -> eventService.getEventsPublic("annotation", null, null, null, null,
+                false, null, 0, 5)));
+        assertEquals(2, countStatements(entityManager, () -> eventService.getEventsPublic("annotation", null, null, null, null,
+                true, null, 0, EVENTS)));
+    }
+
+    private User saveUser(String name) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .build());
+    }
+
+    private void saveEvent(User eventInitiator, LocalDateTime createdOn, LocalDateTime eventDate, User requester) {
+        Category category = categoryRepository.save(Category.builder()
+                .name("Категория " + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        Event event = eventRepository.save(publishedEvent(category, eventInitiator)
+                .createdOn(createdOn)
+                .eventDate(eventDate)
+                .confirmedRequests(1L)
+                .build());
+        requestRepository.save(ParticipationRequest.builder()
+                .created(LocalDateTime.now())
+                .event(event)
+                .requester(requester)
+                .status(RequestStatus.CONFIRMED)
+                .build());
+    }
+}
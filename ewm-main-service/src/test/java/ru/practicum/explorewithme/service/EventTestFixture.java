@@ -0,0 +1,49 @@
+package ru.practicum.explorewithme.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import ru.practicum.explorewithme.model.Category;
+import ru.practicum.explorewithme.model.Event;
+import ru.practicum.explorewithme.model.User;
+import ru.practicum.explorewithme.model.enums.EventState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+final class EventTestFixture {
+
+    private EventTestFixture() {
+    }
+
+    static long countStatements(EntityManager entityManager, Supplier<List<?>> call) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<?> result = call.get();
+        long statements = statistics.getPrepareStatementCount();
+        assertFalse(result.isEmpty());
+        return statements;
+    }
+
+    static Event.EventBuilder publishedEvent(Category category, User initiator) {
+        return Event.builder()
+                .annotation("Test annotation")
+                .description("Test description")
+                .category(category)
+                .createdOn(LocalDateTime.now())
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .publishedOn(LocalDateTime.now())
+                .initiator(initiator)
+                .lat(55.754167f)
+                .lon(37.62f)
+                .paid(false)
+                .participantLimit(10)
+                .requestModeration(true)
+                .state(EventState.PUBLISHED)
+                .title("Test Event");
+    }
+}
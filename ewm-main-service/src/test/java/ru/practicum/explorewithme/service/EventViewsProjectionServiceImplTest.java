@@ -0,0 +1,79 @@
+package ru.practicum.explorewithme.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import ru.practicum.explorewithme.repository.EventViewCountRepository;
+import ru.practicum.stats.client.StatsClient;
+import ru.practicum.stats.dto.ViewStats;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventViewsProjectionServiceImplTest {
+
+    @Mock
+    private StatsClient statsClient;
+
+    @Mock
+    private EventViewCountRepository eventViewCountRepository;
+
+    private EventViewsProjectionServiceImpl projectionService;
+
+    @BeforeEach
+    void setUp() {
+        projectionService = new EventViewsProjectionServiceImpl(statsClient, eventViewCountRepository,
+                TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    void refresh_shouldWriteOnlyChangedAndMissingEvents() {
+        when(statsClient.getStats(any(), any(), isNull(), eq(false))).thenReturn(List.of(
+                new ViewStats("ewm-main-service", "/events/1", 10L),
+                new ViewStats("ewm-main-service", "/events/2", 4L),
+                new ViewStats("ewm-main-service", "/events", 50L),
+                new ViewStats("ewm-main-service", "/events/abc", 1L)));
+        when(eventViewCountRepository.findAllViews()).thenReturn(Map.of(1L, 10L, 3L, 7L, 4L, 0L));
+        when(eventViewCountRepository.upsertAll(eq(Map.of(2L, 4L)), any())).thenReturn(1);
+
+        assertEquals(1, projectionService.refresh());
+        verify(eventViewCountRepository).resetAll(eq(List.of(3L)), any());
+    }
+
+    @Test
+    void refresh_whenCountsUnchanged_shouldNotRewriteRows() {
+        when(statsClient.getStats(any(), any(), isNull(), eq(false))).thenReturn(List.of(
+                new ViewStats("ewm-main-service", "/events/1", 10L)));
+        when(eventViewCountRepository.findAllViews()).thenReturn(Map.of());
+        when(eventViewCountRepository.upsertAll(eq(Map.of(1L, 10L)), any())).thenReturn(1);
+
+        projectionService.refresh();
+        projectionService.refresh();
+
+        verify(eventViewCountRepository, times(1)).findAllViews();
+        verify(eventViewCountRepository).upsertAll(eq(Map.of()), any());
+        verify(eventViewCountRepository, times(2)).resetAll(eq(List.of()), any());
+    }
+
+    @Test
+    void refresh_whenStatsEmpty_shouldKeepExistingCounts() {
+        when(statsClient.getStats(any(), any(), isNull(), eq(false))).thenReturn(List.of());
+
+        assertEquals(0, projectionService.refresh());
+
+        verifyNoInteractions(eventViewCountRepository);
+    }
+}
@@ -0,0 +1,165 @@
+package ru.practicum.explorewithme.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.stats.client.StatsClient;
+import ru.practicum.stats.client.StatsUnavailableException;
+import ru.practicum.stats.dto.ViewStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventViewsServiceImplTest {
+
+    @Mock
+    private StatsClient statsClient;
+
+    @Test
+    void getViews_whenCacheEnabled_shouldCallStatsOnlyForMisses() {
+        EventViewsServiceImpl service = cachedService();
+        when(statsClient.getStats(any(), any(), eq(List.of("/events/1")), eq(true)))
+                .thenReturn(List.of(views(1L, 5L)));
+        when(statsClient.getStats(any(), any(), eq(List.of("/events/2", "/events/3")), eq(true)))
+                .thenReturn(List.of(views(3L, 7L)));
+
+        assertEquals(Map.of(1L, 5L), service.getViews(List.of(1L)));
+        assertEquals(Map.of(1L, 5L, 2L, 0L, 3L, 7L), service.getViews(List.of(1L, 2L, 3L)));
+        assertEquals(Map.of(1L, 5L, 2L, 0L, 3L, 7L), service.getViews(List.of(1L, 2L, 3L)));
+
+        verify(statsClient, times(2)).getStats(any(), any(), any(), eq(true));
+    }
+
+    @Test
+    void getViews_whenConcurrentRequestsForHotEvent_shouldCoalesceIntoOneStatsCall() throws Exception {
+        EventViewsServiceImpl service = cachedService();
+        CountDownLatch loading = new CountDownLatch(1);
+        when(statsClient.getStats(any(), any(), any(), eq(true))).thenAnswer(invocation -> {
+            loading.await(5, TimeUnit.SECONDS);
+            return List.of(views(1L, 42L));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(50);
+        try {
+            List<Future<Map<Long, Long>>> results = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                results.add(executor.submit(() -> service.getViews(List.of(1L))));
+            }
+            Thread.sleep(200);
+            loading.countDown();
+
+            for (Future<Map<Long, Long>> result : results) {
+                assertEquals(42L, result.get(5, TimeUnit.SECONDS).get(1L));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(statsClient, times(1)).getStats(any(), any(), any(), eq(true));
+    }
+
+    @Test
+    void getViews_whenStatsFails_shouldReturnZerosWithoutCaching() {
+        EventViewsServiceImpl service = cachedService();
+        when(statsClient.getStats(any(), any(), any(), eq(true)))
+                .thenThrow(new StatsUnavailableException("stats-server unavailable"))
+                .thenReturn(List.of(views(1L, 3L)));
+
+        assertEquals(Map.of(1L, 0L), service.getViews(List.of(1L)));
+        assertEquals(Map.of(1L, 3L), service.getViews(List.of(1L)));
+    }
+
+    @Test
+    void getViewsAsync_whenStatsUnavailable_shouldReturnZerosWithoutCaching() {
+        EventViewsServiceImpl service = cachedService();
+        when(statsClient.getStatsAsync(any(), any(), any(), eq(true)))
+                .thenReturn(CompletableFuture.failedFuture(new StatsUnavailableException("stats-server unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(List.of(views(1L, 3L))));
+
+        assertEquals(Map.of(1L, 0L), service.getViewsAsync(List.of(1L)).join());
+        assertEquals(Map.of(1L, 3L), service.getViewsAsync(List.of(1L)).join());
+    }
+
+    @Test
+    void getViews_whenCacheDisabled_shouldAlwaysCallStats() {
+        EventViewsServiceImpl service = new EventViewsServiceImpl(statsClient, false, Duration.ofMinutes(1), 100);
+        when(statsClient.getStats(any(), any(), any(), eq(true))).thenReturn(List.of(views(1L, 2L)));
+
+        service.getViews(List.of(1L));
+        service.getViews(List.of(1L));
+
+        verify(statsClient, times(2)).getStats(any(), any(), any(), eq(true));
+    }
+
+    @Test
+    void getViewsAsync_whenCacheEnabled_shouldLoadMissesWithoutBlockingAndShareCache() {
+        EventViewsServiceImpl service = cachedService();
+        CompletableFuture<List<ViewStats>> stats = new CompletableFuture<>();
+        when(statsClient.getStatsAsync(any(), any(), eq(List.of("/events/1")), eq(true))).thenReturn(stats);
+
+        CompletableFuture<Map<Long, Long>> views = service.getViewsAsync(List.of(1L));
+        assertFalse(views.isDone());
+
+        stats.complete(List.of(views(1L, 4L)));
+        assertEquals(Map.of(1L, 4L), views.join());
+        assertEquals(Map.of(1L, 4L), service.getViews(List.of(1L)));
+        verify(statsClient, never()).getStats(any(), any(), any(), any());
+    }
+
+    @Test
+    void getViewsAsync_whenStatsFails_shouldCompleteWithZeros() {
+        EventViewsServiceImpl service = new EventViewsServiceImpl(statsClient, false, Duration.ofMinutes(1), 100);
+        when(statsClient.getStatsAsync(any(), any(), any(), eq(true)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("stats-server unavailable")));
+
+        assertEquals(Map.of(1L, 0L, 2L, 0L), service.getViewsAsync(List.of(1L, 2L)).join());
+    }
+
+    @Test
+    void bindTo_shouldExposeHitAndMissCounters() {
+        EventViewsServiceImpl service = cachedService();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.bindTo(registry);
+        when(statsClient.getStats(any(), any(), any(), eq(true))).thenReturn(List.of(views(1L, 1L)));
+
+        service.getViews(List.of(1L));
+        service.getViews(List.of(1L));
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "eventViews").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "eventViews").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    private EventViewsServiceImpl cachedService() {
+        return new EventViewsServiceImpl(statsClient, true, Duration.ofMinutes(1), 100);
+    }
+
+    private ViewStats views(Long eventId, Long hits) {
+        return ViewStats.builder()
+                .app("ewm-main-service")
+                .uri("/events/" + eventId)
+                .hits(hits)
+                .build();
+    }
+}
@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +44,9 @@ class RequestServiceImplTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private ConfirmedRequestsService confirmedRequestsService;
+
     @InjectMocks
     private RequestServiceImpl requestService;
 
@@ -240,5 +244,50 @@ class RequestServiceImplTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals(RequestStatus.CONFIRMED, result.getStatus());
+        verify(confirmedRequestsService).addConfirmed(1L, 1);
+    }
+
+    @Test
+    void createRequest_whenLimitReached_shouldThrowConflictException() {
+        User anotherUser = User.builder().id(2L).name("Another User").email("another@example.com").build();
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(anotherUser));
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(requestRepository.existsByEventIdAndRequesterId(1L, 2L)).thenReturn(false);
+        event.setConfirmedRequests(10L);
+
+        ConflictException exception = assertThrows(ConflictException.class, () ->
+                requestService.createRequest(2L, 1L));
+
+        assertTrue(exception.getMessage().contains("Достигнут лимит запросов на участие"));
+        verify(requestRepository, never()).save(any(ParticipationRequest.class));
+    }
+
+    @Test
+    void cancelRequest_whenConfirmed_shouldReleaseConfirmedSlot() {
+        ParticipationRequest request = ParticipationRequest.builder()
+                .id(1L)
+                .event(event)
+                .requester(user)
+                .status(RequestStatus.CONFIRMED)
+                .build();
+
+        when(requestRepository.findById(1L)).thenReturn(Optional.of(request));
+        when(requestRepository.save(request)).thenReturn(request);
+
+        ParticipationRequestDto result = requestService.cancelRequest(1L, 1L);
+
+        assertEquals(RequestStatus.CANCELED, result.getStatus());
+        verify(confirmedRequestsService).removeConfirmed(1L, 1);
+    }
+
+    @Test
+    void cancelRequest_whenPending_shouldNotTouchConfirmedCounter() {
+        when(requestRepository.findById(1L)).thenReturn(Optional.of(participationRequest));
+        when(requestRepository.save(participationRequest)).thenReturn(participationRequest);
+
+        requestService.cancelRequest(1L, 1L);
+
+        verify(confirmedRequestsService, never()).removeConfirmed(any(), any(Long.class));
     }
 }
\ No newline at end of file
@@ -6,10 +6,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import ru.practicum.explorewithme.dto.NewUserRequest;
 import ru.practicum.explorewithme.dto.UserDto;
@@ -17,6 +17,7 @@ import ru.practicum.explorewithme.exception.ConflictException;
 import ru.practicum.explorewithme.exception.NotFoundException;
 import ru.practicum.explorewithme.model.User;
 import ru.practicum.explorewithme.repository.UserRepository;
+import ru.practicum.explorewithme.util.OffsetPageRequest;
 
 import java.util.Collections;
 import java.util.List;
@@ -60,20 +61,31 @@ class UserServiceImplTest {
 
     @Test
     void createUser_whenValid_shouldCreateUser() {
-        when(userRepository.findAll()).thenReturn(Collections.emptyList());
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.existsByEmailIgnoreCase("test@example.com")).thenReturn(false);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
 
         UserDto result = userService.createUser(newUserRequest);
 
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("Test User", result.getName());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
     }
 
     @Test
     void createUser_whenEmailExists_shouldThrowConflictException() {
-        when(userRepository.findAll()).thenReturn(List.of(user));
+        when(userRepository.existsByEmailIgnoreCase("test@example.com")).thenReturn(true);
+
+        assertThrows(ConflictException.class, () ->
+                userService.createUser(newUserRequest));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void createUser_whenUniqueConstraintViolated_shouldThrowConflictException() {
+        when(userRepository.existsByEmailIgnoreCase("test@example.com")).thenReturn(false);
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("uq_users_email_lower"));
 
         assertThrows(ConflictException.class, () ->
                 userService.createUser(newUserRequest));
@@ -81,7 +93,7 @@ class UserServiceImplTest {
 
     @Test
     void getUsers_whenIdsProvided_shouldReturnFilteredUsers() {
-        Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
+        Pageable pageable = new OffsetPageRequest(0, 10, Sort.by("id").ascending());
         when(userRepository.findByIdIn(eq(List.of(1L)), eq(pageable)))
                 .thenReturn(List.of(user));
 
@@ -94,10 +106,10 @@ class UserServiceImplTest {
 
     @Test
     void getUsers_whenNoIds_shouldReturnAllUsers() {
-        Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
-        Page<User> userPage = new PageImpl<>(List.of(user), pageable, 1);
+        Pageable pageable = new OffsetPageRequest(0, 10, Sort.by("id").ascending());
+        Slice<User> userPage = new SliceImpl<>(List.of(user), pageable, false);
 
-        when(userRepository.findAll(eq(pageable))).thenReturn(userPage);
+        when(userRepository.findAllBy(eq(pageable))).thenReturn(userPage);
 
         List<UserDto> result = userService.getUsers(null, 0, 10);
 
@@ -108,10 +120,10 @@ class UserServiceImplTest {
 
     @Test
     void getUsers_whenEmptyIds_shouldReturnAllUsers() {
-        Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
-        Page<User> userPage = new PageImpl<>(List.of(user), pageable, 1);
+        Pageable pageable = new OffsetPageRequest(0, 10, Sort.by("id").ascending());
+        Slice<User> userPage = new SliceImpl<>(List.of(user), pageable, false);
 
-        when(userRepository.findAll(eq(pageable))).thenReturn(userPage);
+        when(userRepository.findAllBy(eq(pageable))).thenReturn(userPage);
 
         List<UserDto> result = userService.getUsers(Collections.emptyList(), 0, 10);
 
@@ -121,15 +133,15 @@ class UserServiceImplTest {
 
     @Test
     void getUsers_withPagination_shouldUseCorrectPage() {
-        Pageable pageable = PageRequest.of(1, 5, Sort.by("id").ascending());
-        Page<User> userPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+        Pageable pageable = new OffsetPageRequest(5, 5, Sort.by("id").ascending());
+        Slice<User> userPage = new SliceImpl<>(Collections.emptyList(), pageable, false);
 
-        when(userRepository.findAll(eq(pageable))).thenReturn(userPage);
+        when(userRepository.findAllBy(eq(pageable))).thenReturn(userPage);
 
         List<UserDto> result = userService.getUsers(null, 5, 5);
 
         assertTrue(result.isEmpty());
-        verify(userRepository).findAll(pageable);
+        verify(userRepository).findAllBy(pageable);
     }
 
     @Test
@@ -0,0 +1,39 @@
+package ru.practicum.explorewithme.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_shouldRestoreEncodedKeys() {
+        LocalDateTime eventDate = LocalDateTime.of(2030, 5, 1, 18, 30, 15, 123_456_000);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(eventDate, 42L), true);
+        assertEquals(eventDate, cursor.getSortValue());
+        assertEquals(42L, cursor.getId());
+
+        KeysetCursor idCursor = KeysetCursor.decode(KeysetCursor.encode(7L), false);
+        assertNull(idCursor.getSortValue());
+        assertEquals(7L, idCursor.getId());
+    }
+
+    @Test
+    void decode_whenBlank_shouldStartFromFirstPage() {
+        assertNull(KeysetCursor.decode("", true));
+        assertNull(KeysetCursor.decode(null, false));
+    }
+
+    @Test
+    void decode_whenMalformed_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor", true));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(KeysetCursor.encode(7L), true));
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.decode(KeysetCursor.encode(LocalDateTime.now(), 7L), false));
+    }
+}
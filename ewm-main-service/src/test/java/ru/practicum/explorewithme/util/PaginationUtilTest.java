@@ -27,6 +27,16 @@ class PaginationUtilTest {
         assertEquals(5, pageable.getPageSize());
     }
 
+    @Test
+    void createPageRequest_whenFromNotMultipleOfSize_shouldKeepExactOffset() {
+        Pageable pageable = PaginationUtil.createPageRequest(7, 5);
+
+        assertEquals(7, pageable.getOffset());
+        assertEquals(5, pageable.getPageSize());
+        assertEquals(12, pageable.next().getOffset());
+        assertEquals(2, pageable.previousOrFirst().getOffset());
+    }
+
     @Test
     void createPageRequest_withSort_shouldReturnSortedPage() {
         Sort sort = Sort.by("name").ascending();
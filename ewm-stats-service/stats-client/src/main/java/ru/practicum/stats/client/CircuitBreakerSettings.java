@@ -0,0 +1,28 @@
+package ru.practicum.stats.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+@ToString
+public class CircuitBreakerSettings {
+
+    @Builder.Default
+    private final int failureThreshold = 5;
+
+    @Builder.Default
+    private final Duration openDuration = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final int halfOpenProbes = 1;
+
+    @Builder.Default
+    private final int lastKnownGoodSize = 1000;
+
+    @Builder.Default
+    private final Duration lastKnownGoodWindowBucket = Duration.ofHours(1);
+}
@@ -0,0 +1,7 @@
+package ru.practicum.stats.client;
+
+public enum CircuitState {
+    CLOSED,
+    HALF_OPEN,
+    OPEN
+}
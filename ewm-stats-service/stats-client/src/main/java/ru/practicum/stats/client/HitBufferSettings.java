@@ -0,0 +1,33 @@
+package ru.practicum.stats.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Builder
+@ToString
+public class HitBufferSettings {
+
+    @Builder.Default
+    private final int capacity = 10_000;
+
+    @Builder.Default
+    private final int batchSize = 500;
+
+    @Builder.Default
+    private final Duration flushInterval = Duration.ofSeconds(1);
+
+    @Builder.Default
+    private final OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    @Builder.Default
+    private final Duration blockTimeout = Duration.ofMillis(50);
+
+    private final Path spillDirectory;
+
+    private final boolean virtualThreads;
+}
@@ -0,0 +1,160 @@
+package ru.practicum.stats.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.stats.dto.EndpointHit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+@Slf4j
+class HitSpillFile {
+
+    private static final String ACTIVE_FILE = "stats-hits.spill";
+    private static final String DRAINING_FILE = "stats-hits.spill.draining";
+
+    private final Path activeFile;
+    private final Path drainingFile;
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong pendingHits = new AtomicLong();
+
+    HitSpillFile(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            this.activeFile = directory.resolve(ACTIVE_FILE);
+            this.drainingFile = directory.resolve(DRAINING_FILE);
+            pendingHits.set(countLines(activeFile) + countLines(drainingFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare spill directory " + directory, e);
+        }
+    }
+
+    boolean append(List<EndpointHit> hits) {
+        lock.lock();
+        try (BufferedWriter writer = Files.newBufferedWriter(activeFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (EndpointHit hit : hits) {
+                writer.write(mapper.writeValueAsString(hit));
+                writer.newLine();
+            }
+            pendingHits.addAndGet(hits.size());
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to spill {} hits to {}: {}", hits.size(), activeFile, e.getMessage());
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean drain(int batchSize, Predicate<List<EndpointHit>> sender) {
+        lock.lock();
+        try {
+            if (!Files.exists(drainingFile)) {
+                if (!Files.exists(activeFile)) {
+                    return true;
+                }
+                Files.move(activeFile, drainingFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            log.error("Failed to rotate spill file {}: {}", activeFile, e.getMessage());
+            return false;
+        } finally {
+            lock.unlock();
+        }
+
+        List<String> unsent = new ArrayList<>();
+        boolean delivered = true;
+        try (BufferedReader reader = Files.newBufferedReader(drainingFile, StandardCharsets.UTF_8)) {
+            List<EndpointHit> batch = new ArrayList<>(batchSize);
+            List<String> batchLines = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!delivered) {
+                    unsent.add(line);
+                    continue;
+                }
+                EndpointHit hit = parse(line);
+                if (hit == null) {
+                    pendingHits.decrementAndGet();
+                    continue;
+                }
+                batch.add(hit);
+                batchLines.add(line);
+                if (batch.size() == batchSize) {
+                    delivered = sendBatch(batch, batchLines, unsent, sender);
+                    batch = new ArrayList<>(batchSize);
+                    batchLines = new ArrayList<>(batchSize);
+                }
+            }
+            if (delivered && !batch.isEmpty()) {
+                delivered = sendBatch(batch, batchLines, unsent, sender);
+            }
+        } catch (IOException e) {
+            log.error("Failed to read spill file {}: {}", drainingFile, e.getMessage());
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (!unsent.isEmpty()) {
+                Files.write(activeFile, unsent, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            Files.deleteIfExists(drainingFile);
+        } catch (IOException e) {
+            log.error("Failed to finish draining spill file {}: {}", drainingFile, e.getMessage());
+            return false;
+        } finally {
+            lock.unlock();
+        }
+        return delivered;
+    }
+
+    long getPendingHits() {
+        return pendingHits.get();
+    }
+
+    private boolean sendBatch(List<EndpointHit> batch, List<String> batchLines, List<String> unsent,
+                              Predicate<List<EndpointHit>> sender) {
+        if (sender.test(batch)) {
+            pendingHits.addAndGet(-batch.size());
+            return true;
+        }
+        unsent.addAll(batchLines);
+        return false;
+    }
+
+    private EndpointHit parse(String line) {
+        try {
+            return mapper.readValue(line, EndpointHit.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping malformed spilled hit: {}", e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private static long countLines(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.count();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.stats.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public class StatsCircuitBreaker {
+
+    private final CircuitBreakerSettings settings;
+    private final LongSupplier nanoClock;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private int probesInFlight;
+    private long openedAt;
+
+    public StatsCircuitBreaker(CircuitBreakerSettings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    StatsCircuitBreaker(CircuitBreakerSettings settings, LongSupplier nanoClock) {
+        if (settings.getFailureThreshold() <= 0 || settings.getHalfOpenProbes() <= 0) {
+            throw new IllegalArgumentException("Failure threshold and half-open probes must be positive");
+        }
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == CircuitState.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < settings.getOpenDuration().toNanos()) {
+                rejectedCalls.incrementAndGet();
+                return false;
+            }
+            transitionTo(CircuitState.HALF_OPEN);
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (probesInFlight >= settings.getHalfOpenProbes()) {
+                rejectedCalls.incrementAndGet();
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == CircuitState.HALF_OPEN) {
+            transitionTo(CircuitState.CLOSED);
+        }
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == CircuitState.HALF_OPEN || consecutiveFailures >= settings.getFailureThreshold()) {
+            openedAt = nanoClock.getAsLong();
+            transitionTo(CircuitState.OPEN);
+        }
+    }
+
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    private void transitionTo(CircuitState next) {
+        if (state != next) {
+            log.warn("Stats circuit breaker {} -> {}", state, next);
+            state = next;
+        }
+        probesInFlight = 0;
+    }
+}
@@ -1,5 +1,9 @@
 package ru.practicum.stats.client;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -14,55 +18,102 @@ import org.springframework.web.util.UriComponentsBuilder;
 import ru.practicum.stats.dto.EndpointHit;
 import ru.practicum.stats.dto.ViewStats;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class StatsClient {
+@Slf4j
+public class StatsClient implements AutoCloseable {
     private final RestTemplate rest;
     private final String serverUrl;
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final StatsHitBuffer hitBuffer;
+    private final StatsHttpTransport transport;
+    private final StatsCircuitBreaker circuitBreaker;
+    private final Map<String, List<ViewStats>> lastKnownGood;
+    private final long lastKnownGoodBucketSeconds;
+    private final AtomicLong fallbackResponses = new AtomicLong();
 
     public StatsClient(String serverUrl) {
+        this(serverUrl, null);
+    }
+
+    public StatsClient(String serverUrl, @Nullable HitBufferSettings bufferSettings) {
+        this(serverUrl, bufferSettings, null);
+    }
+
+    public StatsClient(String serverUrl, @Nullable HitBufferSettings bufferSettings,
+                       @Nullable StatsTransportSettings transportSettings) {
+        this(serverUrl, bufferSettings, transportSettings, null);
+    }
+
+    public StatsClient(String serverUrl, @Nullable HitBufferSettings bufferSettings,
+                       @Nullable StatsTransportSettings transportSettings,
+                       @Nullable CircuitBreakerSettings circuitBreakerSettings) {
+        CircuitBreakerSettings breakerSettings = circuitBreakerSettings != null
+                ? circuitBreakerSettings
+                : CircuitBreakerSettings.builder().build();
         this.serverUrl = serverUrl;
-        this.rest = new RestTemplate();
+        this.circuitBreaker = new StatsCircuitBreaker(breakerSettings);
+        this.lastKnownGoodBucketSeconds = Math.max(1, breakerSettings.getLastKnownGoodWindowBucket().getSeconds());
+        this.lastKnownGood = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<ViewStats>> eldest) {
+                return size() > breakerSettings.getLastKnownGoodSize();
+            }
+        });
+        this.transport = new StatsHttpTransport(transportSettings != null
+                ? transportSettings
+                : StatsTransportSettings.builder().build());
+        this.rest = new RestTemplate(transport.requestFactory());
+        this.hitBuffer = bufferSettings != null ? new StatsHitBuffer(bufferSettings, this::sendHits) : null;
     }
 
     public void saveHit(EndpointHit hit) {
-        String url = serverUrl + "/hit";
-
-        ResponseEntity<Void> response = rest.exchange(
-                url,
-                HttpMethod.POST,
-                new HttpEntity<>(hit, createHeaders()),
-                Void.class
-        );
+        if (hitBuffer != null) {
+            hitBuffer.offer(hit);
+            return;
+        }
+        sendHit(hit);
+    }
 
-        if (response.getStatusCode() != HttpStatus.CREATED) {
-            throw new RuntimeException("Expected 201 Created, but got: " + response.getStatusCode());
+    public void saveHits(List<EndpointHit> hits) {
+        if (hitBuffer != null) {
+            hits.forEach(hitBuffer::offer);
+            return;
         }
+        sendHits(hits);
     }
 
     public List<ViewStats> getStats(LocalDateTime start, LocalDateTime end,
                                     @Nullable List<String> uris,
                                     @Nullable Boolean unique) {
+        return getStats(start, end, uris, unique, null);
+    }
 
-        UriComponentsBuilder builder = UriComponentsBuilder
-                .fromHttpUrl(serverUrl + "/stats")
-                .queryParam("start", start.format(formatter))
-                .queryParam("end", end.format(formatter));
+    public List<ViewStats> getStats(LocalDateTime start, LocalDateTime end,
+                                    @Nullable List<String> uris,
+                                    @Nullable Boolean unique,
+                                    @Nullable Boolean approximate) {
 
-        if (uris != null && !uris.isEmpty()) {
-            builder.queryParam("uris", uris.toArray());
-        }
+        String url = statsUri(start, end, uris, unique, approximate).build().toUriString();
+        String fallbackKey = fallbackKey(start, end, uris, unique, approximate);
 
-        if (unique != null) {
-            builder.queryParam("unique", unique);
+        if (!circuitBreaker.tryAcquire()) {
+            return fallback(fallbackKey);
         }
 
-        String url = builder.build().toUriString();
-
         try {
             ResponseEntity<ViewStats[]> response = rest.exchange(
                     url,
@@ -70,20 +121,199 @@ public class StatsClient {
                     new HttpEntity<>(createHeaders()),
                     ViewStats[].class
             );
+            circuitBreaker.onSuccess();
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return Arrays.asList(response.getBody());
+                List<ViewStats> stats = Arrays.asList(response.getBody());
+                lastKnownGood.put(fallbackKey, stats);
+                return stats;
             }
 
             return List.of();
 
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            System.err.println("Error getting stats: " + e.getMessage());
+        } catch (HttpClientErrorException e) {
+            circuitBreaker.onSuccess();
+            log.warn("Error getting stats: {}", e.getMessage());
             return List.of();
+        } catch (HttpServerErrorException e) {
+            circuitBreaker.onFailure();
+            log.warn("Error getting stats: {}", e.getMessage());
+            return fallback(fallbackKey);
         } catch (Exception e) {
-            System.err.println("Unexpected error: " + e.getMessage());
-            return List.of();
+            circuitBreaker.onFailure();
+            log.error("Unexpected error getting stats: {}", e.getMessage());
+            return fallback(fallbackKey);
+        }
+    }
+
+    public CompletableFuture<List<ViewStats>> getStatsAsync(LocalDateTime start, LocalDateTime end,
+                                                            @Nullable List<String> uris,
+                                                            @Nullable Boolean unique) {
+        return getStatsAsync(start, end, uris, unique, null);
+    }
+
+    public CompletableFuture<List<ViewStats>> getStatsAsync(LocalDateTime start, LocalDateTime end,
+                                                            @Nullable List<String> uris,
+                                                            @Nullable Boolean unique,
+                                                            @Nullable Boolean approximate) {
+
+        String fallbackKey = fallbackKey(start, end, uris, unique, approximate);
+
+        if (!circuitBreaker.tryAcquire()) {
+            return fallbackAsync(fallbackKey);
+        }
+
+        CompletableFuture<SimpleHttpResponse> response;
+        try {
+            response = transport.getAsync(statsUri(start, end, uris, unique, approximate).encode().build().toUri());
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            log.error("Unexpected error getting stats: {}", e.getMessage());
+            return fallbackAsync(fallbackKey);
+        }
+
+        return response.handle((result, error) -> {
+            if (error != null) {
+                circuitBreaker.onFailure();
+                log.warn("Error getting stats: {}", error.getMessage());
+                return fallback(fallbackKey);
+            }
+            if (result.getCode() >= 500) {
+                circuitBreaker.onFailure();
+                log.warn("Error getting stats: status {}", result.getCode());
+                return fallback(fallbackKey);
+            }
+            if (result.getCode() >= 300) {
+                circuitBreaker.onSuccess();
+                log.warn("Error getting stats: status {}", result.getCode());
+                return List.of();
+            }
+
+            List<ViewStats> stats;
+            try {
+                stats = Arrays.asList(objectMapper.readValue(result.getBodyBytes(), ViewStats[].class));
+            } catch (IOException | IllegalArgumentException e) {
+                circuitBreaker.onFailure();
+                log.error("Unexpected error getting stats: {}", e.getMessage());
+                return fallback(fallbackKey);
+            }
+            circuitBreaker.onSuccess();
+            lastKnownGood.put(fallbackKey, stats);
+            return stats;
+        });
+    }
+
+    @Nullable
+    public StatsHitBuffer getHitBuffer() {
+        return hitBuffer;
+    }
+
+    public StatsHttpTransport getTransport() {
+        return transport;
+    }
+
+    public StatsCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public long getFallbackResponses() {
+        return fallbackResponses.get();
+    }
+
+    @Override
+    public void close() {
+        if (hitBuffer != null) {
+            hitBuffer.close();
+        }
+        transport.close();
+    }
+
+    private void sendHits(List<EndpointHit> hits) {
+        if (hits.isEmpty()) {
+            return;
         }
+        post(serverUrl + "/hits", hits);
+    }
+
+    private void sendHit(EndpointHit hit) {
+        post(serverUrl + "/hit", hit);
+    }
+
+    private void post(String url, Object body) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new StatsUnavailableException("Stats server circuit is open, hit not sent to " + url);
+        }
+
+        ResponseEntity<Void> response;
+        try {
+            response = rest.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(body, createHeaders()),
+                    Void.class
+            );
+        } catch (HttpClientErrorException e) {
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        circuitBreaker.onSuccess();
+
+        if (response.getStatusCode() != HttpStatus.CREATED) {
+            throw new RuntimeException("Expected 201 Created, but got: " + response.getStatusCode());
+        }
+    }
+
+    private UriComponentsBuilder statsUri(LocalDateTime start, LocalDateTime end, @Nullable List<String> uris,
+                                          @Nullable Boolean unique, @Nullable Boolean approximate) {
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromHttpUrl(serverUrl + "/stats")
+                .queryParam("start", start.format(formatter))
+                .queryParam("end", end.format(formatter));
+
+        if (uris != null && !uris.isEmpty()) {
+            builder.queryParam("uris", uris.toArray());
+        }
+
+        if (unique != null) {
+            builder.queryParam("unique", unique);
+        }
+
+        if (approximate != null) {
+            builder.queryParam("approximate", approximate);
+        }
+
+        return builder;
+    }
+
+    private List<ViewStats> fallback(String key) {
+        List<ViewStats> stats = lastKnownGood.get(key);
+        if (stats == null) {
+            throw new StatsUnavailableException("Stats server is unavailable and no last known answer for " + key);
+        }
+        fallbackResponses.incrementAndGet();
+        return stats;
+    }
+
+    private CompletableFuture<List<ViewStats>> fallbackAsync(String key) {
+        try {
+            return CompletableFuture.completedFuture(fallback(key));
+        } catch (StatsUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private String fallbackKey(LocalDateTime start, LocalDateTime end, @Nullable List<String> uris,
+                               @Nullable Boolean unique, @Nullable Boolean approximate) {
+        String uriKey = uris == null ? "" : String.join(",", new TreeSet<>(uris));
+        return bucket(start) + "-" + bucket(end) + '|' + uriKey + '|' + unique + '|' + approximate;
+    }
+
+    private long bucket(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        return seconds - Math.floorMod(seconds, lastKnownGoodBucketSeconds);
     }
 
     private HttpHeaders createHeaders() {
@@ -0,0 +1,218 @@
+package ru.practicum.stats.client;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.stats.dto.EndpointHit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@Slf4j
+public class StatsHitBuffer implements AutoCloseable {
+
+    private final HitBufferSettings settings;
+    private final Consumer<List<EndpointHit>> sender;
+    private final BlockingQueue<EndpointHit> queue;
+    private final HitSpillFile spillFile;
+    private final ScheduledExecutorService flusher;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong sentHits = new AtomicLong();
+    private final AtomicLong droppedHits = new AtomicLong();
+    private final AtomicLong spilledHits = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private volatile boolean closed;
+
+    public StatsHitBuffer(HitBufferSettings settings, Consumer<List<EndpointHit>> sender) {
+        if (settings.getCapacity() <= 0 || settings.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("Buffer capacity and batch size must be positive");
+        }
+        if (settings.getFlushInterval().isNegative() || settings.getFlushInterval().isZero()) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        if (settings.getOverflowPolicy() == OverflowPolicy.SPILL && settings.getSpillDirectory() == null) {
+            throw new IllegalArgumentException("Spill directory is required for SPILL overflow policy");
+        }
+
+        this.settings = settings;
+        this.sender = sender;
+        this.queue = new ArrayBlockingQueue<>(settings.getCapacity());
+        this.spillFile = settings.getOverflowPolicy() == OverflowPolicy.SPILL
+                ? new HitSpillFile(settings.getSpillDirectory())
+                : null;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(settings.isVirtualThreads()
+                ? Thread.ofVirtual().name("stats-hit-flusher").factory()
+                : Thread.ofPlatform().name("stats-hit-flusher").daemon().factory());
+
+        long interval = settings.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Stats hit buffer started: {}", settings);
+    }
+
+    public void offer(EndpointHit hit) {
+        if (closed) {
+            droppedHits.incrementAndGet();
+            return;
+        }
+
+        switch (settings.getOverflowPolicy()) {
+            case DROP_OLDEST -> offerDroppingOldest(hit);
+            case BLOCK -> offerBlocking(hit);
+            case SPILL -> offerSpilling(hit);
+        }
+
+        if (queue.size() >= settings.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            List<EndpointHit> batch = new ArrayList<>(settings.getBatchSize());
+            while (queue.drainTo(batch, settings.getBatchSize()) > 0) {
+                if (!send(batch)) {
+                    requeue(batch);
+                    return;
+                }
+                batch = new ArrayList<>(settings.getBatchSize());
+            }
+
+            if (spillFile != null && spillFile.getPendingHits() > 0) {
+                spillFile.drain(settings.getBatchSize(), this::send);
+            }
+        } catch (Exception e) {
+            log.error("Unexpected error while flushing stats hits: {}", e.getMessage(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getCapacity() {
+        return settings.getCapacity();
+    }
+
+    public long getSentHits() {
+        return sentHits.get();
+    }
+
+    public long getDroppedHits() {
+        return droppedHits.get();
+    }
+
+    public long getSpilledHits() {
+        return spilledHits.get();
+    }
+
+    public long getPendingSpilledHits() {
+        return spillFile != null ? spillFile.getPendingHits() : 0;
+    }
+
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(settings.getFlushInterval().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+        if (!queue.isEmpty()) {
+            List<EndpointHit> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            if (spillFile != null) {
+                spill(rest);
+            } else {
+                droppedHits.addAndGet(rest.size());
+                log.warn("Stats hit buffer closed with {} undelivered hits", rest.size());
+            }
+        }
+    }
+
+    private void offerDroppingOldest(EndpointHit hit) {
+        while (!queue.offer(hit)) {
+            if (queue.poll() != null) {
+                droppedHits.incrementAndGet();
+            }
+        }
+    }
+
+    private void offerBlocking(EndpointHit hit) {
+        try {
+            if (!queue.offer(hit, settings.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                droppedHits.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            droppedHits.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void offerSpilling(EndpointHit hit) {
+        if (!queue.offer(hit)) {
+            spill(List.of(hit));
+        }
+    }
+
+    private void spill(List<EndpointHit> hits) {
+        if (spillFile.append(hits)) {
+            spilledHits.addAndGet(hits.size());
+        } else {
+            droppedHits.addAndGet(hits.size());
+        }
+    }
+
+    private boolean send(List<EndpointHit> batch) {
+        try {
+            sender.accept(batch);
+            sentHits.addAndGet(batch.size());
+            return true;
+        } catch (Exception e) {
+            failedBatches.incrementAndGet();
+            log.warn("Failed to send {} hits to stats server: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void requeue(List<EndpointHit> batch) {
+        if (spillFile != null) {
+            spill(batch);
+            return;
+        }
+        for (EndpointHit hit : batch) {
+            if (!queue.offer(hit)) {
+                droppedHits.incrementAndGet();
+            }
+        }
+    }
+}
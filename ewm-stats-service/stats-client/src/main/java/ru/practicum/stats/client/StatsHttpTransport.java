@@ -0,0 +1,147 @@
+package ru.practicum.stats.client;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+public class StatsHttpTransport implements AutoCloseable {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final PoolingAsyncClientConnectionManager asyncConnectionManager;
+    private final CloseableHttpAsyncClient asyncClient;
+    private final StatsTransportSettings settings;
+
+    public StatsHttpTransport(StatsTransportSettings settings) {
+        this.settings = settings;
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(timeout(settings.getConnectTimeout()))
+                .setSocketTimeout(timeout(settings.getResponseTimeout()))
+                .build();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(settings.getConnectionRequestTimeout()))
+                .setResponseTimeout(timeout(settings.getResponseTimeout()))
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(settings.getKeepAlive().toMillis()))
+                .build();
+        TimeValue idleTimeout = TimeValue.ofMilliseconds(settings.getIdleTimeout().toMillis());
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout)
+                .build();
+
+        this.asyncConnectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1).build())
+                .build();
+        this.asyncClient = HttpAsyncClients.custom()
+                .setConnectionManager(asyncConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout)
+                .build();
+        this.asyncClient.start();
+    }
+
+    public ClientHttpRequestFactory requestFactory() {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    public CompletableFuture<SimpleHttpResponse> getAsync(URI uri) {
+        SimpleHttpRequest request = SimpleRequestBuilder.get(uri)
+                .addHeader(HttpHeaders.ACCEPT, "application/json")
+                .build();
+        CompletableFuture<SimpleHttpResponse> response = new CompletableFuture<>();
+        asyncClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse result) {
+                response.complete(result);
+            }
+
+            @Override
+            public void failed(Exception e) {
+                response.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                response.completeExceptionally(new CancellationException("Stats request cancelled: " + uri));
+            }
+        });
+        return response;
+    }
+
+    public StatsTransportSettings getSettings() {
+        return settings;
+    }
+
+    public int getLeasedConnections() {
+        return connectionManager.getTotalStats().getLeased() + asyncStats().getLeased();
+    }
+
+    public int getAvailableConnections() {
+        return connectionManager.getTotalStats().getAvailable() + asyncStats().getAvailable();
+    }
+
+    public int getPendingConnectionRequests() {
+        return connectionManager.getTotalStats().getPending() + asyncStats().getPending();
+    }
+
+    public int getMaxConnections() {
+        return connectionManager.getTotalStats().getMax() + asyncStats().getMax();
+    }
+
+    @Override
+    public void close() {
+        asyncClient.close(CloseMode.IMMEDIATE);
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PoolStats asyncStats() {
+        return asyncConnectionManager.getTotalStats();
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.stats.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+@ToString
+public class StatsTransportSettings {
+
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(1);
+
+    @Builder.Default
+    private final Duration responseTimeout = Duration.ofSeconds(2);
+
+    @Builder.Default
+    private final Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+    @Builder.Default
+    private final int maxConnections = 50;
+
+    @Builder.Default
+    private final int maxConnectionsPerRoute = 20;
+
+    @Builder.Default
+    private final Duration keepAlive = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final Duration idleTimeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,8 @@
+package ru.practicum.stats.client;
+
+public class StatsUnavailableException extends RuntimeException {
+
+    public StatsUnavailableException(String message) {
+        super(message);
+    }
+}
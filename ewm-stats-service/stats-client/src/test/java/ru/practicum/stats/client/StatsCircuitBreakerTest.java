@@ -0,0 +1,78 @@
+package ru.practicum.stats.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatsCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final StatsCircuitBreaker breaker = new StatsCircuitBreaker(CircuitBreakerSettings.builder()
+            .failureThreshold(3)
+            .openDuration(Duration.ofSeconds(10))
+            .build(), clock::get);
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures() {
+        failTimes(2);
+        breaker.onSuccess();
+        failTimes(2);
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        failTimes(1);
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    void shouldAllowSingleProbeAfterOpenDuration() {
+        failTimes(3);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() {
+        failTimes(3);
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertFalse(breaker.tryAcquire());
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new StatsCircuitBreaker(
+                CircuitBreakerSettings.builder().failureThreshold(0).build()));
+    }
+
+    private void failTimes(int failures) {
+        for (int i = 0; i < failures; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+    }
+}
@@ -9,11 +9,12 @@ import ru.practicum.stats.dto.EndpointHit;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 
@@ -53,7 +54,39 @@ class StatsClientErrorHandlingTest {
     }
 
     @Test
-    void getStats_whenInvalidResponse_shouldReturnEmptyList() {
+    void saveHits_shouldPostWholeBatchToHitsEndpoint() {
+        StatsClient client = new StatsClient("http://localhost:9090");
+
+        RestTemplate restTemplate;
+        try {
+            var field = StatsClient.class.getDeclaredField("rest");
+            field.setAccessible(true);
+            restTemplate = (RestTemplate) field.get(client);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+
+        EndpointHit hit = EndpointHit.builder()
+                .app("ewm-main-service")
+                .uri("/events/1")
+                .ip("192.168.1.1")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        mockServer.expect(requestTo("http://localhost:9090/hits"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andRespond(withStatus(HttpStatus.CREATED));
+
+        client.saveHits(List.of(hit, hit));
+
+        mockServer.verify();
+    }
+
+    @Test
+    void getStats_whenServerErrorAndNoLastKnownGood_shouldThrow() {
         StatsClient client = new StatsClient("http://localhost:9090");
 
         RestTemplate restTemplate;
@@ -83,9 +116,7 @@ class StatsClientErrorHandlingTest {
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withServerError());
 
-        var result = client.getStats(start, end, null, false);
-
-        assertTrue(result.isEmpty());
+        assertThrows(StatsUnavailableException.class, () -> client.getStats(start, end, null, false));
         mockServer.verify();
     }
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+package ru.practicum.stats.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.practicum.stats.dto.EndpointHit;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatsHitBufferTest {
+
+    private final List<List<EndpointHit>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void flush_shouldShipHitsInBatchesOfConfiguredSize() {
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .capacity(100)
+                .batchSize(3)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        try (StatsHitBuffer buffer = new StatsHitBuffer(settings, batches::add)) {
+            for (int i = 0; i < 2; i++) {
+                buffer.offer(hit(i));
+            }
+            buffer.flush();
+
+            assertEquals(1, batches.size());
+            assertEquals(2, batches.get(0).size());
+            assertEquals(2, buffer.getSentHits());
+            assertEquals(0, buffer.getQueueDepth());
+        }
+    }
+
+    @Test
+    void offer_whenBatchSizeReached_shouldFlushWithoutWaitingForInterval() throws InterruptedException {
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .capacity(100)
+                .batchSize(5)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        try (StatsHitBuffer buffer = new StatsHitBuffer(settings, batches::add)) {
+            for (int i = 0; i < 5; i++) {
+                buffer.offer(hit(i));
+            }
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (buffer.getSentHits() < 5 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(5, buffer.getSentHits());
+        }
+    }
+
+    @Test
+    void offer_whenVirtualThreadsEnabled_shouldFlushOnVirtualThread() throws InterruptedException {
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .capacity(100)
+                .batchSize(1)
+                .flushInterval(Duration.ofHours(1))
+                .virtualThreads(true)
+                .build();
+        List<Thread> senders = new CopyOnWriteArrayList<>();
+
+        try (StatsHitBuffer buffer = new StatsHitBuffer(settings, hits -> senders.add(Thread.currentThread()))) {
+            buffer.offer(hit(0));
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (senders.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertTrue(senders.get(0).isVirtual());
+            assertEquals("stats-hit-flusher", senders.get(0).getName());
+        }
+    }
+
+    @Test
+    void offer_whenFullWithDropOldest_shouldEvictOldestHits() {
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .capacity(3)
+                .batchSize(10)
+                .flushInterval(Duration.ofHours(1))
+                .overflowPolicy(OverflowPolicy.DROP_OLDEST)
+                .build();
+
+        try (StatsHitBuffer buffer = new StatsHitBuffer(settings, batches::add)) {
+            for (int i = 0; i < 5; i++) {
+                buffer.offer(hit(i));
+            }
+            buffer.flush();
+
+            assertEquals(2, buffer.getDroppedHits());
+            assertEquals(List.of("/events/2", "/events/3", "/events/4"),
+                    batches.get(0).stream().map(EndpointHit::getUri).toList());
+        }
+    }
+
+    @Test
+    void offer_whenFullWithBlock_shouldDropAfterTimeout() {
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .capacity(2)
+                .batchSize(10)
+                .flushInterval(Duration.ofHours(1))
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .blockTimeout(Duration.ofMillis(10))
+                .build();
+
+        try (StatsHitBuffer buffer = new StatsHitBuffer(settings, batches::add)) {
+            for (int i = 0; i < 3; i++) {
+                buffer.offer(hit(i));
+            }
+
+            assertEquals(2, buffer.getQueueDepth());
+            assertEquals(1, buffer.getDroppedHits());
+        }
+    }
+
+    @Test
+    void offer_whenFullWithSpill_shouldPersistAndReplayOverflow(@TempDir Path spillDir) {
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .capacity(2)
+                .batchSize(10)
+                .flushInterval(Duration.ofHours(1))
+                .overflowPolicy(OverflowPolicy.SPILL)
+                .spillDirectory(spillDir)
+                .build();
+
+        try (StatsHitBuffer buffer = new StatsHitBuffer(settings, batches::add)) {
+            for (int i = 0; i < 5; i++) {
+                buffer.offer(hit(i));
+            }
+
+            assertEquals(3, buffer.getSpilledHits());
+            assertEquals(3, buffer.getPendingSpilledHits());
+
+            buffer.flush();
+
+            assertEquals(5, buffer.getSentHits());
+            assertEquals(0, buffer.getPendingSpilledHits());
+            assertEquals(0, buffer.getDroppedHits());
+        }
+    }
+
+    @Test
+    void flush_whenSenderFails_shouldKeepHitsForNextAttempt() {
+        AtomicBoolean serverDown = new AtomicBoolean(true);
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .capacity(10)
+                .batchSize(10)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        try (StatsHitBuffer buffer = new StatsHitBuffer(settings, batch -> {
+            if (serverDown.get()) {
+                throw new IllegalStateException("stats-server unavailable");
+            }
+            batches.add(batch);
+        })) {
+            buffer.offer(hit(1));
+            buffer.offer(hit(2));
+            buffer.flush();
+
+            assertEquals(1, buffer.getFailedBatches());
+            assertEquals(2, buffer.getQueueDepth());
+
+            serverDown.set(false);
+            buffer.flush();
+
+            assertEquals(2, buffer.getSentHits());
+            assertTrue(batches.get(0).size() == 2);
+        }
+    }
+
+    @Test
+    void constructor_whenSpillWithoutDirectory_shouldThrow() {
+        HitBufferSettings settings = HitBufferSettings.builder()
+                .overflowPolicy(OverflowPolicy.SPILL)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> new StatsHitBuffer(settings, batches::add));
+    }
+
+    private EndpointHit hit(int i) {
+        return EndpointHit.builder()
+                .app("ewm-main-service")
+                .uri("/events/" + i)
+                .ip("192.168.1." + i)
+                .timestamp(LocalDateTime.of(2024, 1, 1, 12, 0, i))
+                .build();
+    }
+}
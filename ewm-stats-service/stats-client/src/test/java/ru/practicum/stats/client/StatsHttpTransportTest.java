@@ -0,0 +1,201 @@
+package ru.practicum.stats.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.stats.dto.EndpointHit;
+import ru.practicum.stats.dto.ViewStats;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatsHttpTransportTest {
+
+    private HttpServer server;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/stats", exchange -> {
+            if (exchange.getRequestURI().getQuery().contains("slow")) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body = "[{\"app\":\"ewm\",\"uri\":\"/events/1\",\"hits\":3}]".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void getStats_shouldReuseKeepAliveConnection() {
+        try (StatsClient client = new StatsClient(url(), null, StatsTransportSettings.builder()
+                .maxConnections(4)
+                .maxConnectionsPerRoute(2)
+                .build())) {
+            StatsHttpTransport transport = client.getTransport();
+            assertEquals(8, transport.getMaxConnections());
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(3L, client.getStats(LocalDateTime.now().minusDays(1), LocalDateTime.now(),
+                        List.of("/events/1"), false).get(0).getHits());
+            }
+
+            assertEquals(0, transport.getLeasedConnections());
+            assertEquals(1, transport.getAvailableConnections());
+            assertEquals(0, transport.getPendingConnectionRequests());
+        }
+    }
+
+    @Test
+    void getStats_whenServerIsSlow_shouldGiveUpAfterResponseTimeout() {
+        try (StatsClient client = new StatsClient(url(), null, StatsTransportSettings.builder()
+                .responseTimeout(Duration.ofMillis(200))
+                .build())) {
+            long started = System.nanoTime();
+
+            assertThrows(StatsUnavailableException.class, () -> client.getStats(LocalDateTime.now().minusDays(1),
+                    LocalDateTime.now(), List.of("/slow"), false));
+
+            assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(2));
+        }
+    }
+
+    @Test
+    void getStats_whenServerFails_shouldOpenCircuitAndServeLastKnownGood() {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 10, 0);
+        try (StatsClient client = new StatsClient(url(), null, null, CircuitBreakerSettings.builder()
+                .failureThreshold(2)
+                .openDuration(Duration.ofMinutes(1))
+                .build())) {
+            assertEquals(3L, client.getStats(start, start.plusYears(1), List.of("/events/1"), false)
+                    .get(0).getHits());
+
+            server.stop(0);
+            for (int i = 1; i <= 2; i++) {
+                assertEquals(3L, client.getStats(start.plusSeconds(i), start.plusYears(1).plusSeconds(i),
+                        List.of("/events/1"), false).get(0).getHits());
+            }
+            assertEquals(CircuitState.OPEN, client.getCircuitBreaker().getState());
+
+            long started = System.nanoTime();
+            assertEquals(3L, client.getStats(start.plusMinutes(5), start.plusYears(1).plusMinutes(5),
+                    List.of("/events/1"), false).get(0).getHits());
+            assertThrows(StatsUnavailableException.class,
+                    () -> client.getStats(start, start.plusYears(1), List.of("/events/2"), false));
+            assertThrows(StatsUnavailableException.class,
+                    () -> client.getStats(start, start.plusYears(1), List.of("/events/1"), true));
+            assertTrue(System.nanoTime() - started < TimeUnit.MILLISECONDS.toNanos(100));
+
+            assertThrows(StatsUnavailableException.class, () -> client.saveHit(EndpointHit.builder()
+                    .app("ewm")
+                    .uri("/events/1")
+                    .ip("127.0.0.1")
+                    .timestamp(LocalDateTime.now())
+                    .build()));
+            assertEquals(4, client.getCircuitBreaker().getRejectedCalls());
+            assertEquals(3, client.getFallbackResponses());
+        }
+    }
+
+    @Test
+    void getStatsAsync_shouldReturnBeforeServerResponds() throws Exception {
+        try (StatsClient client = new StatsClient(url())) {
+            CompletableFuture<List<ViewStats>> stats = client.getStatsAsync(LocalDateTime.now().minusDays(1),
+                    LocalDateTime.now(), List.of("/slow"), true);
+
+            assertFalse(stats.isDone());
+            release.countDown();
+            assertEquals(3L, stats.get(2, TimeUnit.SECONDS).get(0).getHits());
+        }
+    }
+
+    @Test
+    void getStatsAsync_shouldQueueOnPooledConnectionLimit() throws Exception {
+        try (StatsClient client = new StatsClient(url(), null, StatsTransportSettings.builder()
+                .maxConnections(1)
+                .maxConnectionsPerRoute(1)
+                .connectionRequestTimeout(Duration.ofSeconds(5))
+                .build())) {
+            StatsHttpTransport transport = client.getTransport();
+            CompletableFuture<List<ViewStats>> first = client.getStatsAsync(LocalDateTime.now().minusDays(1),
+                    LocalDateTime.now(), List.of("/slow"), true);
+            CompletableFuture<List<ViewStats>> second = client.getStatsAsync(LocalDateTime.now().minusDays(1),
+                    LocalDateTime.now(), List.of("/slow"), false);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (transport.getPendingConnectionRequests() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, transport.getLeasedConnections());
+            assertEquals(1, transport.getPendingConnectionRequests());
+
+            release.countDown();
+            assertEquals(3L, first.get(2, TimeUnit.SECONDS).get(0).getHits());
+            assertEquals(3L, second.get(2, TimeUnit.SECONDS).get(0).getHits());
+        }
+    }
+
+    @Test
+    void getStatsAsync_whenServerFails_shouldShareCircuitAndLastKnownGood() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 10, 0);
+        try (StatsClient client = new StatsClient(url(), null, null, CircuitBreakerSettings.builder()
+                .failureThreshold(2)
+                .openDuration(Duration.ofMinutes(1))
+                .build())) {
+            assertEquals(3L, client.getStats(start, start.plusYears(1), List.of("/events/1"), false)
+                    .get(0).getHits());
+
+            server.stop(0);
+            for (int i = 1; i <= 3; i++) {
+                assertEquals(3L, client.getStatsAsync(start.plusSeconds(i), start.plusYears(1).plusSeconds(i),
+                                List.of("/events/1"), false)
+                        .get(2, TimeUnit.SECONDS).get(0).getHits());
+            }
+            assertEquals(CircuitState.OPEN, client.getCircuitBreaker().getState());
+            assertEquals(1, client.getCircuitBreaker().getRejectedCalls());
+            assertEquals(3, client.getFallbackResponses());
+
+            ExecutionException miss = assertThrows(ExecutionException.class,
+                    () -> client.getStatsAsync(start, start.plusYears(1), List.of("/events/2"), false)
+                            .get(2, TimeUnit.SECONDS));
+            assertInstanceOf(StatsUnavailableException.class, miss.getCause());
+        }
+    }
+
+    private String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,132 @@
+package ru.practicum.stats.columnar;
+
+import ru.practicum.stats.sketch.HyperLogLog;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+abstract class HitAggregator {
+
+    abstract boolean needsIp();
+
+    abstract void add(int[] apps, int[] uris, long[] ipHigh, long[] ipLow, int[] selection, int count);
+
+    abstract Map<Long, Long> result();
+
+    static long key(int app, int uri) {
+        return (long) app << Integer.SIZE | uri;
+    }
+
+    static int app(long key) {
+        return (int) (key >>> Integer.SIZE);
+    }
+
+    static int uri(long key) {
+        return (int) key;
+    }
+
+    static HitAggregator hits(int dictionarySize) {
+        return new Hits(dictionarySize);
+    }
+
+    static HitAggregator uniqueHits() {
+        return new UniqueHits();
+    }
+
+    static HitAggregator approximateUniqueHits() {
+        return new ApproximateUniqueHits();
+    }
+
+    private static final class Hits extends HitAggregator {
+        private final int dictionarySize;
+        private final Map<Integer, long[]> countsByApp = new HashMap<>();
+        private int lastApp = -1;
+        private long[] lastCounts;
+
+        private Hits(int dictionarySize) {
+            this.dictionarySize = dictionarySize;
+        }
+
+        @Override
+        boolean needsIp() {
+            return false;
+        }
+
+        @Override
+        void add(int[] apps, int[] uris, long[] ipHigh, long[] ipLow, int[] selection, int count) {
+            for (int k = 0; k < count; k++) {
+                int row = selection[k];
+                if (apps[row] != lastApp) {
+                    lastApp = apps[row];
+                    lastCounts = countsByApp.computeIfAbsent(lastApp, app -> new long[dictionarySize]);
+                }
+                lastCounts[uris[row]]++;
+            }
+        }
+
+        @Override
+        Map<Long, Long> result() {
+            Map<Long, Long> result = new HashMap<>();
+            countsByApp.forEach((app, counts) -> {
+                for (int uri = 0; uri < counts.length; uri++) {
+                    if (counts[uri] > 0) {
+                        result.put(key(app, uri), counts[uri]);
+                    }
+                }
+            });
+            return result;
+        }
+    }
+
+    private static final class UniqueHits extends HitAggregator {
+        private final Map<Long, Set<Ip128>> ips = new HashMap<>();
+
+        @Override
+        boolean needsIp() {
+            return true;
+        }
+
+        @Override
+        void add(int[] apps, int[] uris, long[] ipHigh, long[] ipLow, int[] selection, int count) {
+            for (int k = 0; k < count; k++) {
+                int row = selection[k];
+                ips.computeIfAbsent(key(apps[row], uris[row]), key -> new HashSet<>())
+                        .add(new Ip128(ipHigh[row], ipLow[row]));
+            }
+        }
+
+        @Override
+        Map<Long, Long> result() {
+            Map<Long, Long> result = new HashMap<>();
+            ips.forEach((key, set) -> result.put(key, (long) set.size()));
+            return result;
+        }
+    }
+
+    private static final class ApproximateUniqueHits extends HitAggregator {
+        private final Map<Long, HyperLogLog> sketches = new HashMap<>();
+
+        @Override
+        boolean needsIp() {
+            return true;
+        }
+
+        @Override
+        void add(int[] apps, int[] uris, long[] ipHigh, long[] ipLow, int[] selection, int count) {
+            for (int k = 0; k < count; k++) {
+                int row = selection[k];
+                sketches.computeIfAbsent(key(apps[row], uris[row]), key -> new HyperLogLog())
+                        .add(ipHigh[row], ipLow[row]);
+            }
+        }
+
+        @Override
+        Map<Long, Long> result() {
+            Map<Long, Long> result = new HashMap<>();
+            sketches.forEach((key, sketch) -> result.put(key, sketch.estimate()));
+            return result;
+        }
+    }
+}
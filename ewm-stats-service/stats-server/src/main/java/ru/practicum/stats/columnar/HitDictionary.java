@@ -0,0 +1,110 @@
+package ru.practicum.stats.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class HitDictionary implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<byte[]> pending = new ArrayList<>();
+    private volatile String[] values = new String[1024];
+    private volatile int size;
+
+    private HitDictionary(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    static HitDictionary open(Path file) throws IOException {
+        HitDictionary dictionary = new HitDictionary(FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt(buffer.position());
+            if (length < 0 || buffer.remaining() - Integer.BYTES < length) {
+                break;
+            }
+            byte[] bytes = new byte[length];
+            buffer.position(buffer.position() + Integer.BYTES).get(bytes);
+            dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        dictionary.channel.truncate(buffer.position());
+        dictionary.channel.position(buffer.position());
+        return dictionary;
+    }
+
+    int idOf(String value) {
+        Integer id = ids.get(value);
+        return id != null ? id : -1;
+    }
+
+    String valueOf(int id) {
+        return values[id];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int intern(String value) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        pending.add(value.getBytes(StandardCharsets.UTF_8));
+        return add(value);
+    }
+
+    void flush(boolean force) throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(pending.stream().mapToInt(bytes -> Integer.BYTES + bytes.length).sum());
+        for (byte[] bytes : pending) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+        buffer.flip();
+        long start = channel.position();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            channel.truncate(start);
+            channel.position(start);
+            throw e;
+        }
+        pending.clear();
+        if (force) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int add(String value) {
+        int id = size;
+        String[] current = values;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[id] = value;
+        values = current;
+        ids.put(value, id);
+        size = id + 1;
+        return id;
+    }
+}
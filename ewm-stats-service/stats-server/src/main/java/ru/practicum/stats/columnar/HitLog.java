@@ -0,0 +1,170 @@
+package ru.practicum.stats.columnar;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.stats.dto.EndpointHit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "stats.storage", havingValue = "columnar")
+public class HitLog implements AutoCloseable {
+
+    private static final String DICTIONARY_FILE = "dictionary.dat";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".hits";
+    private static final int MAX_SEGMENT_ROWS = 64 * 1024 * 1024;
+
+    private final Path directory;
+    private final int segmentRows;
+    private final boolean syncOnWrite;
+    private final HitDictionary dictionary;
+    private final List<HitSegment> segments = new CopyOnWriteArrayList<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public HitLog(@Value("${stats.columnar.directory:data/hits}") Path directory,
+                  @Value("${stats.columnar.segment-rows:1048576}") int segmentRows,
+                  @Value("${stats.columnar.sync-on-write:true}") boolean syncOnWrite) throws IOException {
+        if (segmentRows < HitSegment.BLOCK || segmentRows > MAX_SEGMENT_ROWS) {
+            throw new IllegalArgumentException("Segment rows must be between " + HitSegment.BLOCK
+                    + " and " + MAX_SEGMENT_ROWS);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentRows = segmentRows;
+        this.syncOnWrite = syncOnWrite;
+        this.dictionary = HitDictionary.open(directory.resolve(DICTIONARY_FILE));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(HitLog::isSegment).sorted().toList()) {
+                segments.add(HitSegment.open(file));
+            }
+        }
+        log.info("Opened columnar hit log in {}: {} segments, {} hits, {} dictionary entries", directory,
+                segments.size(), segments.stream().mapToLong(HitSegment::size).sum(), dictionary.size());
+    }
+
+    public void append(List<EndpointHit> hits) {
+        if (hits.isEmpty()) {
+            return;
+        }
+        long[] seconds = new long[hits.size()];
+        Ip128[] ips = new Ip128[hits.size()];
+        for (int i = 0; i < hits.size(); i++) {
+            seconds[i] = hits.get(i).getTimestamp().toEpochSecond(ZoneOffset.UTC);
+            ips[i] = Ip128.parse(hits.get(i).getIp());
+        }
+
+        writeLock.lock();
+        try {
+            int[] apps = new int[hits.size()];
+            int[] uris = new int[hits.size()];
+            for (int i = 0; i < hits.size(); i++) {
+                apps[i] = dictionary.intern(hits.get(i).getApp());
+                uris[i] = dictionary.intern(hits.get(i).getUri());
+            }
+            dictionary.flush(syncOnWrite);
+
+            HitSegment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            for (int i = 0; i < hits.size(); i++) {
+                if (active == null || !active.fits(seconds[i])) {
+                    if (active != null) {
+                        active.commit(true);
+                    }
+                    active = HitSegment.create(directory.resolve(segmentName(segments.size())), segmentRows,
+                            seconds[i]);
+                    segments.add(active);
+                }
+                active.append(apps[i], uris[i], seconds[i], ips[i]);
+            }
+            active.commit(syncOnWrite);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public List<Object[]> getStats(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        return scan(start, end, uris, HitAggregator::hits);
+    }
+
+    public List<Object[]> getUniqueStats(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        return scan(start, end, uris, size -> HitAggregator.uniqueHits());
+    }
+
+    public List<Object[]> getApproximateUniqueStats(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        return scan(start, end, uris, size -> HitAggregator.approximateUniqueHits());
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            segments.forEach(HitSegment::force);
+            dictionary.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private List<Object[]> scan(LocalDateTime start, LocalDateTime end, List<String> uris,
+                                IntFunction<HitAggregator> aggregatorFactory) {
+        if (uris != null && uris.isEmpty()) {
+            return List.of();
+        }
+        List<HitSegment> snapshot = List.copyOf(segments);
+        int[] limits = snapshot.stream().mapToInt(HitSegment::size).toArray();
+        int dictionarySize = dictionary.size();
+
+        boolean[] uriMask = null;
+        if (uris != null) {
+            uriMask = new boolean[dictionarySize];
+            boolean known = false;
+            for (String uri : uris) {
+                int id = dictionary.idOf(uri);
+                if (id >= 0 && id < dictionarySize) {
+                    uriMask[id] = true;
+                    known = true;
+                }
+            }
+            if (!known) {
+                return List.of();
+            }
+        }
+
+        long fromSecond = start.toEpochSecond(ZoneOffset.UTC) + (start.getNano() > 0 ? 1 : 0);
+        long toSecond = end.toEpochSecond(ZoneOffset.UTC);
+        HitAggregator aggregator = aggregatorFactory.apply(dictionarySize);
+        for (int i = 0; i < snapshot.size(); i++) {
+            snapshot.get(i).scan(fromSecond, toSecond, limits[i], uriMask, aggregator);
+        }
+
+        return aggregator.result().entrySet().stream()
+                .map(entry -> new Object[]{dictionary.valueOf(HitAggregator.app(entry.getKey())),
+                        dictionary.valueOf(HitAggregator.uri(entry.getKey())), entry.getValue()})
+                .sorted(Comparator.comparingLong((Object[] row) -> (Long) row[2]).reversed())
+                .toList();
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static String segmentName(int index) {
+        return String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+}
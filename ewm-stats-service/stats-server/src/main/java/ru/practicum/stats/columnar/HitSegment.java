@@ -0,0 +1,208 @@
+package ru.practicum.stats.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class HitSegment {
+
+    static final int BLOCK = 1024;
+
+    private static final int MAGIC = 0x45574D48;
+    private static final int VERSION = 1;
+    private static final int HEADER = 32;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int ROWS_OFFSET = 12;
+    private static final int BASE_OFFSET = 16;
+    private static final long ROW_BYTES = 3 * Integer.BYTES + 2 * Long.BYTES;
+    private static final long[] COLUMN_OFFSETS = {0, Integer.BYTES, 2L * Integer.BYTES, 3L * Integer.BYTES,
+            3L * Integer.BYTES + Long.BYTES};
+    private static final int[] COLUMN_WIDTHS = {Integer.BYTES, Integer.BYTES, Integer.BYTES, Long.BYTES, Long.BYTES};
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long baseSecond;
+    private final IntBuffer apps;
+    private final IntBuffer uris;
+    private final IntBuffer seconds;
+    private final LongBuffer ipHigh;
+    private final LongBuffer ipLow;
+
+    private volatile int rows;
+    private volatile int minDelta = Integer.MAX_VALUE;
+    private volatile int maxDelta = Integer.MIN_VALUE;
+    private int written;
+    private int persisted;
+    private int pendingMin = Integer.MAX_VALUE;
+    private int pendingMax = Integer.MIN_VALUE;
+
+    private HitSegment(MappedByteBuffer buffer, int capacity, long baseSecond) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.baseSecond = baseSecond;
+        this.apps = column(0).asIntBuffer();
+        this.uris = column(1).asIntBuffer();
+        this.seconds = column(2).asIntBuffer();
+        this.ipHigh = column(3).asLongBuffer();
+        this.ipLow = column(4).asLongBuffer();
+    }
+
+    static HitSegment create(Path file, int capacity, long baseSecond) throws IOException {
+        MappedByteBuffer buffer = map(file, HEADER + capacity * ROW_BYTES, StandardOpenOption.CREATE_NEW);
+        buffer.putInt(0, MAGIC)
+                .putInt(Integer.BYTES, VERSION)
+                .putInt(CAPACITY_OFFSET, capacity)
+                .putInt(ROWS_OFFSET, 0)
+                .putLong(BASE_OFFSET, baseSecond);
+        buffer.force();
+        return new HitSegment(buffer, capacity, baseSecond);
+    }
+
+    static HitSegment open(Path file) throws IOException {
+        MappedByteBuffer header = map(file, HEADER);
+        if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Not a hit segment: " + file);
+        }
+        int capacity = header.getInt(CAPACITY_OFFSET);
+        HitSegment segment = new HitSegment(map(file, HEADER + capacity * ROW_BYTES), capacity,
+                header.getLong(BASE_OFFSET));
+        int rows = Math.min(header.getInt(ROWS_OFFSET), capacity);
+        while (rows > 0 && segment.isBlank(rows - 1)) {
+            rows--;
+        }
+        for (int i = 0; i < rows; i++) {
+            segment.pendingMin = Math.min(segment.pendingMin, segment.seconds.get(i));
+            segment.pendingMax = Math.max(segment.pendingMax, segment.seconds.get(i));
+        }
+        segment.written = rows;
+        segment.persisted = rows;
+        segment.commit(false);
+        return segment;
+    }
+
+    int size() {
+        return rows;
+    }
+
+    boolean fits(long second) {
+        long delta = second - baseSecond;
+        return written < capacity && delta >= Integer.MIN_VALUE && delta <= Integer.MAX_VALUE;
+    }
+
+    void append(int app, int uri, long second, Ip128 ip) {
+        int delta = (int) (second - baseSecond);
+        int row = written++;
+        apps.put(row, app);
+        uris.put(row, uri);
+        seconds.put(row, delta);
+        ipHigh.put(row, ip.high());
+        ipLow.put(row, ip.low());
+        pendingMin = Math.min(pendingMin, delta);
+        pendingMax = Math.max(pendingMax, delta);
+    }
+
+    void commit(boolean durable) {
+        minDelta = pendingMin;
+        maxDelta = pendingMax;
+        rows = written;
+        if (durable) {
+            force();
+        } else {
+            buffer.putInt(ROWS_OFFSET, written);
+        }
+    }
+
+    void force() {
+        int target = rows;
+        if (target == persisted) {
+            return;
+        }
+        for (int column = 0; column < COLUMN_OFFSETS.length; column++) {
+            int width = COLUMN_WIDTHS[column];
+            buffer.force((int) (HEADER + COLUMN_OFFSETS[column] * capacity + (long) persisted * width),
+                    (target - persisted) * width);
+        }
+        buffer.putInt(ROWS_OFFSET, target);
+        buffer.force(ROWS_OFFSET, Integer.BYTES);
+        persisted = target;
+    }
+
+    void scan(long fromSecond, long toSecond, int limit, boolean[] uriMask, HitAggregator aggregator) {
+        long from = Math.max(fromSecond - baseSecond, minDelta);
+        long to = Math.min(toSecond - baseSecond, maxDelta);
+        if (limit == 0 || from > to) {
+            return;
+        }
+        int lo = (int) from;
+        int hi = (int) to;
+
+        int[] blockSeconds = new int[BLOCK];
+        int[] blockUris = new int[BLOCK];
+        int[] blockApps = new int[BLOCK];
+        long[] blockHigh = new long[BLOCK];
+        long[] blockLow = new long[BLOCK];
+        int[] selection = new int[BLOCK];
+
+        for (int start = 0; start < limit; start += BLOCK) {
+            int length = Math.min(BLOCK, limit - start);
+            seconds.get(start, blockSeconds, 0, length);
+            uris.get(start, blockUris, 0, length);
+
+            int count = 0;
+            if (uriMask == null) {
+                for (int i = 0; i < length; i++) {
+                    int second = blockSeconds[i];
+                    selection[count] = i;
+                    count += second >= lo & second <= hi ? 1 : 0;
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    int second = blockSeconds[i];
+                    selection[count] = i;
+                    count += second >= lo & second <= hi & uriMask[blockUris[i]] ? 1 : 0;
+                }
+            }
+            if (count == 0) {
+                continue;
+            }
+
+            apps.get(start, blockApps, 0, length);
+            if (aggregator.needsIp()) {
+                ipHigh.get(start, blockHigh, 0, length);
+                ipLow.get(start, blockLow, 0, length);
+            }
+            aggregator.add(blockApps, blockUris, blockHigh, blockLow, selection, count);
+        }
+    }
+
+    private boolean isBlank(int row) {
+        return apps.get(row) == 0 && uris.get(row) == 0 && seconds.get(row) == 0
+                && ipHigh.get(row) == 0 && ipLow.get(row) == 0;
+    }
+
+    private ByteBuffer column(int column) {
+        return buffer.slice((int) (HEADER + COLUMN_OFFSETS[column] * capacity), capacity * COLUMN_WIDTHS[column])
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static MappedByteBuffer map(Path file, long size, OpenOption... options) throws IOException {
+        Set<OpenOption> openOptions = new HashSet<>(List.of(options));
+        openOptions.add(StandardOpenOption.READ);
+        openOptions.add(StandardOpenOption.WRITE);
+        try (FileChannel channel = FileChannel.open(file, openOptions)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+}
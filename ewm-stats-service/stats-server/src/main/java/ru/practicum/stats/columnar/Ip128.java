@@ -0,0 +1,46 @@
+package ru.practicum.stats.columnar;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+
+record Ip128(long high, long low) {
+
+    private static final long IPV4_MAPPED = 0xFFFFL << 32;
+
+    static Ip128 parse(String ip) {
+        if (ip.indexOf(':') < 0) {
+            return new Ip128(0, IPV4_MAPPED | parseIpv4(ip));
+        }
+        try {
+            InetAddress address = InetAddress.getByName(ip);
+            if (address instanceof Inet4Address) {
+                return new Ip128(0, IPV4_MAPPED | (ByteBuffer.wrap(address.getAddress()).getInt() & 0xFFFFFFFFL));
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(address.getAddress());
+            return new Ip128(bytes.getLong(), bytes.getLong());
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Invalid IP address: " + ip);
+        }
+    }
+
+    private static long parseIpv4(String ip) {
+        String[] octets = ip.split("\\.", -1);
+        if (octets.length != 4) {
+            throw new IllegalArgumentException("Invalid IP address: " + ip);
+        }
+        long value = 0;
+        for (String octet : octets) {
+            if (octet.isEmpty() || octet.length() > 3 || !octet.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                throw new IllegalArgumentException("Invalid IP address: " + ip);
+            }
+            int part = Integer.parseInt(octet);
+            if (part > 255) {
+                throw new IllegalArgumentException("Invalid IP address: " + ip);
+            }
+            value = value << 8 | part;
+        }
+        return value;
+    }
+}
@@ -1,10 +1,16 @@
 package ru.practicum.stats.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -15,9 +21,13 @@ import ru.practicum.stats.dto.EndpointHit;
 import ru.practicum.stats.dto.ViewStats;
 import ru.practicum.stats.service.StatsService;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +35,8 @@ import java.util.List;
 public class StatsController {
 
     private final StatsService statsService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @PostMapping("/hit")
     @ResponseStatus(HttpStatus.CREATED)
@@ -34,6 +46,29 @@ public class StatsController {
         statsService.saveHit(endpointHit);
     }
 
+    @PostMapping(value = "/hits", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public void saveHits(@RequestBody List<EndpointHit> endpointHits) {
+        log.info("POST /hits: {} hits", endpointHits.size());
+        validateHits(endpointHits);
+        statsService.saveHits(endpointHits);
+    }
+
+    @PostMapping(value = "/hits", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public void saveHitsNdjson(InputStream body) {
+        List<EndpointHit> endpointHits;
+        try (MappingIterator<EndpointHit> iterator = objectMapper.readerFor(EndpointHit.class).readValues(body)) {
+            endpointHits = iterator.readAll();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed NDJSON request: " + e.getMessage());
+        }
+
+        log.info("POST /hits (ndjson): {} hits", endpointHits.size());
+        validateHits(endpointHits);
+        statsService.saveHits(endpointHits);
+    }
+
     @GetMapping("/stats")
     public List<ViewStats> getStats(
             @RequestParam
@@ -45,9 +80,10 @@ public class StatsController {
             LocalDateTime end,
 
             @RequestParam(required = false) String[] uris,
-            @RequestParam(defaultValue = "false") Boolean unique) {
+            @RequestParam(defaultValue = "false") Boolean unique,
+            @RequestParam(defaultValue = "false") Boolean approximate) {
 
-        log.info("GET /stats?start={}&end={}&uris={}&unique={}", start, end, uris, unique);
+        log.info("GET /stats?start={}&end={}&uris={}&unique={}&approximate={}", start, end, uris, unique, approximate);
 
         if (end.isBefore(start)) {
             throw new IllegalArgumentException("End date must be after start date");
@@ -55,6 +91,19 @@ public class StatsController {
 
         List<String> uriList = (uris != null) ? Arrays.asList(uris) : null;
 
+        if (unique && approximate) {
+            return statsService.getApproximateUniqueStats(start, end, uriList);
+        }
         return statsService.getStats(start, end, uriList, unique);
     }
+
+    private void validateHits(List<EndpointHit> endpointHits) {
+        Set<ConstraintViolation<EndpointHit>> violations = new HashSet<>();
+        for (EndpointHit endpointHit : endpointHits) {
+            violations.addAll(validator.validate(endpointHit));
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
 }
\ No newline at end of file
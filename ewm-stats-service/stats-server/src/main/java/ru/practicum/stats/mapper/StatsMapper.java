@@ -1,8 +1,12 @@
 package ru.practicum.stats.mapper;
 
 import ru.practicum.stats.dto.EndpointHit;
+import ru.practicum.stats.dto.ViewStats;
 import ru.practicum.stats.model.EndpointHitEntity;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class StatsMapper {
 
     public static EndpointHitEntity toEntity(EndpointHit endpointHit) {
@@ -17,4 +21,14 @@ public class StatsMapper {
                 .timestamp(endpointHit.getTimestamp())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static List<ViewStats> toViewStats(List<Object[]> results) {
+        return results.stream()
+                .map(row -> ViewStats.builder()
+                        .app((String) row[0])
+                        .uri((String) row[1])
+                        .hits((Long) row[2])
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
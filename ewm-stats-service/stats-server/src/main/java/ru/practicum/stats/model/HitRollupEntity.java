@@ -0,0 +1,25 @@
+package ru.practicum.stats.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "endpoint_hit_rollups")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HitRollupEntity {
+
+    @EmbeddedId
+    private HitRollupId id;
+
+    @Column(name = "hits", nullable = false)
+    private Long hits;
+}
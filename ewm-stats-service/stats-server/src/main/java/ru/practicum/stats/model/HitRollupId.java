@@ -0,0 +1,32 @@
+package ru.practicum.stats.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HitRollupId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "app", nullable = false, length = 255)
+    private String app;
+
+    @Column(name = "uri", nullable = false, length = 255)
+    private String uri;
+}
@@ -0,0 +1,25 @@
+package ru.practicum.stats.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "endpoint_hit_sketches")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HitSketchEntity {
+
+    @EmbeddedId
+    private HitRollupId id;
+
+    @Column(name = "registers", nullable = false, length = 4097)
+    private byte[] registers;
+}
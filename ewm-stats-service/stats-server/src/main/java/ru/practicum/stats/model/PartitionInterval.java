@@ -0,0 +1,38 @@
+package ru.practicum.stats.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+public enum PartitionInterval {
+    DAY(ChronoUnit.DAYS, "yyyyMMdd"),
+    WEEK(ChronoUnit.WEEKS, "yyyyMMdd"),
+    MONTH(ChronoUnit.MONTHS, "yyyyMM");
+
+    private final ChronoUnit unit;
+    private final DateTimeFormatter suffixFormat;
+
+    PartitionInterval(ChronoUnit unit, String suffixPattern) {
+        this.unit = unit;
+        this.suffixFormat = DateTimeFormatter.ofPattern(suffixPattern);
+    }
+
+    public LocalDateTime floor(LocalDateTime time) {
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDateTime next(LocalDateTime start) {
+        return start.plus(1, unit);
+    }
+
+    public String suffix(LocalDateTime start) {
+        return start.format(suffixFormat);
+    }
+}
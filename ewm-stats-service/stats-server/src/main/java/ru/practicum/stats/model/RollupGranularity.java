@@ -0,0 +1,35 @@
+package ru.practicum.stats.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES, "minute"),
+    HOUR(ChronoUnit.HOURS, "hour"),
+    DAY(ChronoUnit.DAYS, "day");
+
+    private final ChronoUnit unit;
+    private final String sqlUnit;
+
+    RollupGranularity(ChronoUnit unit, String sqlUnit) {
+        this.unit = unit;
+        this.sqlUnit = sqlUnit;
+    }
+
+    public String getSqlUnit() {
+        return sqlUnit;
+    }
+
+    public LocalDateTime floor(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime ceil(LocalDateTime time) {
+        LocalDateTime floor = floor(time);
+        return floor.equals(time) ? floor : floor.plus(1, unit);
+    }
+
+    public RollupGranularity coarser() {
+        return this == DAY ? null : values()[ordinal() + 1];
+    }
+}
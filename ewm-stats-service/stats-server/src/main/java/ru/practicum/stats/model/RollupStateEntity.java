@@ -0,0 +1,34 @@
+package ru.practicum.stats.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "endpoint_hit_rollup_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupStateEntity {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "last_hit_id", nullable = false)
+    private Long lastHitId;
+
+    @Column(name = "next_hit_id", nullable = false)
+    private Long nextHitId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
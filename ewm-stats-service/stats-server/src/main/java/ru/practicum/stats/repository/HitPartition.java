@@ -0,0 +1,10 @@
+package ru.practicum.stats.repository;
+
+import java.time.LocalDateTime;
+
+public record HitPartition(String name, LocalDateTime from, LocalDateTime to) {
+
+    public boolean overlaps(LocalDateTime otherFrom, LocalDateTime otherTo) {
+        return (from == null || from.isBefore(otherTo)) && (to == null || otherFrom.isBefore(to));
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.stats.repository;
+
+import java.util.List;
+
+public interface HitPartitionJdbcRepository {
+
+    boolean isPartitioningSupported();
+
+    boolean isPartitioned();
+
+    void convertToPartitioned(List<HitPartition> partitions);
+
+    long drainLegacyHits();
+
+    List<HitPartition> findPartitions();
+
+    void createPartition(HitPartition partition);
+
+    long findMaxHitId(HitPartition partition);
+
+    void dropPartition(HitPartition partition);
+}
@@ -0,0 +1,140 @@
+package ru.practicum.stats.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@RequiredArgsConstructor
+public class HitPartitionJdbcRepositoryImpl implements HitPartitionJdbcRepository {
+
+    private static final String DEFAULT_PARTITION = "endpoint_hits_default";
+    private static final String LEGACY_TABLE = "endpoint_hits_legacy";
+    private static final String LOCK_TIMEOUT = "SET LOCAL lock_timeout = '5s'";
+
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String COLUMNS = "id, app, uri, ip, timestamp";
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\('([^']+)'\\) TO \\('([^']+)'\\)");
+
+    private static final String[] CONVERT_SQL = {
+            LOCK_TIMEOUT,
+            "LOCK TABLE endpoint_hits IN ACCESS EXCLUSIVE MODE",
+            "ALTER TABLE endpoint_hits RENAME TO " + LEGACY_TABLE,
+            "ALTER INDEX IF EXISTS endpoint_hits_pkey RENAME TO " + LEGACY_TABLE + "_pkey",
+            "DROP INDEX IF EXISTS idx_endpoint_hits_timestamp, idx_endpoint_hits_uri, idx_endpoint_hits_app_uri",
+            "CREATE SEQUENCE IF NOT EXISTS endpoint_hits_seq",
+            """
+            CREATE TABLE endpoint_hits (
+                id BIGINT NOT NULL DEFAULT nextval('endpoint_hits_seq'),
+                app VARCHAR(255) NOT NULL,
+                uri VARCHAR(255) NOT NULL,
+                ip VARCHAR(45) NOT NULL,
+                timestamp TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+                PRIMARY KEY (id, timestamp)
+            ) PARTITION BY RANGE (timestamp)
+            """,
+            "ALTER SEQUENCE endpoint_hits_seq OWNED BY endpoint_hits.id",
+            "CREATE INDEX idx_endpoint_hits_uri_timestamp ON endpoint_hits (uri, timestamp)",
+            "CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF endpoint_hits DEFAULT"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean isPartitioningSupported() {
+        return POSTGRESQL.equals(jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName()));
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass('endpoint_hits')", String.class);
+        return kinds.contains("p");
+    }
+
+    @Override
+    public void convertToPartitioned(List<HitPartition> partitions) {
+        for (String sql : CONVERT_SQL) {
+            jdbcTemplate.execute(sql);
+        }
+        for (HitPartition partition : partitions) {
+            jdbcTemplate.execute("CREATE TABLE " + partition.name() + " PARTITION OF endpoint_hits"
+                    + " FOR VALUES FROM ('" + bound(partition.from()) + "') TO ('" + bound(partition.to()) + "')");
+        }
+        jdbcTemplate.queryForObject("SELECT setval('endpoint_hits_seq', COALESCE(MAX(id), 0) + 1, false)"
+                + " FROM " + LEGACY_TABLE, Long.class);
+        jdbcTemplate.execute("WITH moved AS (DELETE FROM " + LEGACY_TABLE + " RETURNING " + COLUMNS + ") "
+                + "INSERT INTO endpoint_hits (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved");
+    }
+
+    @Override
+    public long drainLegacyHits() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('" + LEGACY_TABLE + "') IS NOT NULL", Boolean.class))) {
+            return 0;
+        }
+        jdbcTemplate.execute(LOCK_TIMEOUT);
+        jdbcTemplate.execute("LOCK TABLE " + LEGACY_TABLE + " IN ACCESS EXCLUSIVE MODE");
+        Long drained = jdbcTemplate.queryForObject("WITH moved AS (DELETE FROM " + LEGACY_TABLE
+                + " RETURNING app, uri, ip, timestamp), inserted AS (INSERT INTO endpoint_hits (app, uri, ip, timestamp)"
+                + " SELECT app, uri, ip, timestamp FROM moved RETURNING 1) SELECT COUNT(*) FROM inserted", Long.class);
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        return drained != null ? drained : 0;
+    }
+
+    @Override
+    public List<HitPartition> findPartitions() {
+        List<HitPartition> partitions = new ArrayList<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(
+                "SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound "
+                        + "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass('endpoint_hits') ORDER BY c.relname")) {
+            Matcher matcher = RANGE_BOUND.matcher((String) row.get("bound"));
+            if (matcher.find()) {
+                partitions.add(new HitPartition((String) row.get("name"),
+                        parseBound(matcher.group(1)), parseBound(matcher.group(2))));
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    public void createPartition(HitPartition partition) {
+        String from = bound(partition.from());
+        String to = bound(partition.to());
+        jdbcTemplate.execute("CREATE TABLE " + partition.name() + " (LIKE endpoint_hits INCLUDING DEFAULTS)");
+        jdbcTemplate.execute("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE timestamp >= '" + from + "' AND timestamp < '" + to + "' RETURNING " + COLUMNS + ") "
+                + "INSERT INTO " + partition.name() + " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved");
+        jdbcTemplate.execute("ALTER TABLE endpoint_hits ATTACH PARTITION " + partition.name()
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    @Override
+    public long findMaxHitId(HitPartition partition) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + partition.name(), Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    @Override
+    public void dropPartition(HitPartition partition) {
+        jdbcTemplate.execute("DROP TABLE " + partition.name());
+    }
+
+    private static String bound(LocalDateTime time) {
+        return time.format(BOUND_FORMAT);
+    }
+
+    private static LocalDateTime parseBound(String value) {
+        return LocalDateTime.parse(value.substring(0, Math.min(value.length(), 19)), BOUND_FORMAT);
+    }
+}
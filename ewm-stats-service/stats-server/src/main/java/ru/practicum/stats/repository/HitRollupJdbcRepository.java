@@ -0,0 +1,11 @@
+package ru.practicum.stats.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface HitRollupJdbcRepository {
+
+    int rollUp(long fromHitIdExclusive, long toHitIdInclusive);
+
+    List<Object[]> getStats(LocalDateTime start, LocalDateTime end, List<String> uris);
+}
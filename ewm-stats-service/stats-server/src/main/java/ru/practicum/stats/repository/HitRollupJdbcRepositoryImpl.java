@@ -0,0 +1,100 @@
+package ru.practicum.stats.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.stats.model.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class HitRollupJdbcRepositoryImpl implements HitRollupJdbcRepository {
+
+    public static final String HITS_STATE = "endpoint_hits";
+
+    private static final String MERGE_SQL = """
+            MERGE INTO endpoint_hit_rollups r
+            USING (SELECT DATE_TRUNC('%1$s', h.timestamp) AS bucket_start, h.app, h.uri, COUNT(*) AS hits
+                   FROM endpoint_hits h
+                   WHERE h.id > ? AND h.id <= ?
+                   GROUP BY DATE_TRUNC('%1$s', h.timestamp), h.app, h.uri) s
+            ON (r.granularity = '%2$s' AND r.bucket_start = s.bucket_start AND r.app = s.app AND r.uri = s.uri)
+            WHEN MATCHED THEN UPDATE SET hits = r.hits + s.hits
+            WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, app, uri, hits)
+                VALUES ('%2$s', s.bucket_start, s.app, s.uri, s.hits)
+            """;
+
+    static final String WATERMARK_SQL =
+            "COALESCE((SELECT last_hit_id FROM endpoint_hit_rollup_state WHERE name = '" + HITS_STATE + "'), 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int rollUp(long fromHitIdExclusive, long toHitIdInclusive) {
+        int merged = 0;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            String sql = String.format(MERGE_SQL, granularity.getSqlUnit(), granularity.name());
+            merged += jdbcTemplate.update(sql, fromHitIdExclusive, toHitIdInclusive);
+        }
+        return merged;
+    }
+
+    @Override
+    public List<Object[]> getStats(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        if (uris != null && uris.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        RollupRangePlan plan = RollupRangePlan.of(start, end);
+        List<String> parts = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+
+        for (RollupRangePlan.Segment segment : plan.segments()) {
+            if (segment.isRaw()) {
+                parts.add("SELECT h.app, h.uri, COUNT(*) AS hits FROM endpoint_hits h "
+                        + "WHERE h.timestamp >= ? AND h.timestamp " + (segment.toInclusive() ? "<=" : "<") + " ?"
+                        + uriFilter(uris) + " GROUP BY h.app, h.uri");
+                args.add(segment.from());
+                args.add(segment.to());
+            } else {
+                parts.add("SELECT app, uri, hits FROM endpoint_hit_rollups "
+                        + "WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?"
+                        + uriFilter(uris));
+                args.add(segment.granularity().name());
+                args.add(segment.from());
+                args.add(segment.to());
+            }
+            if (uris != null) {
+                args.addAll(uris);
+            }
+        }
+
+        if (plan.hasAlignedPart()) {
+            parts.add("SELECT h.app, h.uri, COUNT(*) AS hits FROM endpoint_hits h "
+                    + "WHERE h.id > " + WATERMARK_SQL + " AND h.timestamp >= ? AND h.timestamp < ?"
+                    + uriFilter(uris) + " GROUP BY h.app, h.uri");
+            args.add(plan.alignedFrom());
+            args.add(plan.alignedTo());
+            if (uris != null) {
+                args.addAll(uris);
+            }
+        }
+
+        String sql = "SELECT app, uri, SUM(hits) AS total FROM ("
+                + String.join(" UNION ALL ", parts)
+                + ") t GROUP BY app, uri ORDER BY total DESC";
+
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new Object[]{rs.getString("app"), rs.getString("uri"), rs.getLong("total")},
+                args.toArray());
+    }
+
+    static String uriFilter(List<String> uris) {
+        if (uris == null) {
+            return "";
+        }
+        return " AND uri IN (" + String.join(", ", Collections.nCopies(uris.size(), "?")) + ")";
+    }
+}
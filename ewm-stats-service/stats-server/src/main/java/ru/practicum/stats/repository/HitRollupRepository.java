@@ -0,0 +1,8 @@
+package ru.practicum.stats.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import ru.practicum.stats.model.HitRollupEntity;
+import ru.practicum.stats.model.HitRollupId;
+
+public interface HitRollupRepository extends JpaRepository<HitRollupEntity, HitRollupId>, HitRollupJdbcRepository {
+}
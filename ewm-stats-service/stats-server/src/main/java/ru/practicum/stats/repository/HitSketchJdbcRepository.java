@@ -0,0 +1,11 @@
+package ru.practicum.stats.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface HitSketchJdbcRepository {
+
+    void mergeSketches(long fromHitIdExclusive, long toHitIdInclusive);
+
+    List<Object[]> getUniqueStats(LocalDateTime start, LocalDateTime end, List<String> uris);
+}
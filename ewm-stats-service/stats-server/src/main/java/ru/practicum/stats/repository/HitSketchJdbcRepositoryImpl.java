@@ -0,0 +1,162 @@
+package ru.practicum.stats.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.stats.model.HitRollupId;
+import ru.practicum.stats.model.RollupGranularity;
+import ru.practicum.stats.sketch.HyperLogLog;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class HitSketchJdbcRepositoryImpl implements HitSketchJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO endpoint_hit_sketches "
+            + "(granularity, bucket_start, app, uri, registers) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE endpoint_hit_sketches SET registers = ? "
+            + "WHERE granularity = ? AND bucket_start = ? AND app = ? AND uri = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void mergeSketches(long fromHitIdExclusive, long toHitIdInclusive) {
+        Map<HitRollupId, HyperLogLog> sketches = new HashMap<>();
+        jdbcTemplate.query("SELECT h.app, h.uri, h.ip, h.timestamp FROM endpoint_hits h WHERE h.id > ? AND h.id <= ?",
+                rs -> {
+                    LocalDateTime timestamp = rs.getTimestamp("timestamp").toLocalDateTime();
+                    for (RollupGranularity granularity : RollupGranularity.values()) {
+                        HitRollupId key = new HitRollupId(granularity, granularity.floor(timestamp),
+                                rs.getString("app"), rs.getString("uri"));
+                        sketches.computeIfAbsent(key, k -> new HyperLogLog()).add(rs.getString("ip"));
+                    }
+                },
+                fromHitIdExclusive, toHitIdInclusive);
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            List<HitRollupId> keys = sketches.keySet().stream()
+                    .filter(key -> key.getGranularity() == granularity)
+                    .toList();
+            if (!keys.isEmpty()) {
+                save(granularity, keys, sketches);
+            }
+        }
+    }
+
+    @Override
+    public List<Object[]> getUniqueStats(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        if (uris != null && uris.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        RollupRangePlan plan = RollupRangePlan.of(start, end);
+        Long watermark = jdbcTemplate.queryForObject("SELECT " + HitRollupJdbcRepositoryImpl.WATERMARK_SQL, Long.class);
+        Map<AppUri, HyperLogLog> sketches = new HashMap<>();
+
+        List<String> bucketConditions = new ArrayList<>();
+        List<Object> bucketArgs = new ArrayList<>();
+        List<String> rawConditions = new ArrayList<>();
+        List<Object> rawArgs = new ArrayList<>();
+
+        for (RollupRangePlan.Segment segment : plan.segments()) {
+            if (segment.isRaw()) {
+                rawConditions.add("(h.timestamp >= ? AND h.timestamp " + (segment.toInclusive() ? "<=" : "<") + " ?)");
+                rawArgs.add(segment.from());
+                rawArgs.add(segment.to());
+            } else {
+                bucketConditions.add("(granularity = ? AND bucket_start >= ? AND bucket_start < ?)");
+                bucketArgs.add(segment.granularity().name());
+                bucketArgs.add(segment.from());
+                bucketArgs.add(segment.to());
+            }
+        }
+        if (plan.hasAlignedPart()) {
+            rawConditions.add("(h.id > ? AND h.timestamp >= ? AND h.timestamp < ?)");
+            rawArgs.add(watermark);
+            rawArgs.add(plan.alignedFrom());
+            rawArgs.add(plan.alignedTo());
+        }
+
+        if (!bucketConditions.isEmpty()) {
+            if (uris != null) {
+                bucketArgs.addAll(uris);
+            }
+            jdbcTemplate.query("SELECT app, uri, registers FROM endpoint_hit_sketches WHERE ("
+                            + String.join(" OR ", bucketConditions) + ")"
+                            + HitRollupJdbcRepositoryImpl.uriFilter(uris),
+                    rs -> {
+                        sketches.computeIfAbsent(new AppUri(rs.getString("app"), rs.getString("uri")),
+                                        k -> new HyperLogLog())
+                                .merge(HyperLogLog.fromBytes(rs.getBytes("registers")));
+                    },
+                    bucketArgs.toArray());
+        }
+
+        if (uris != null) {
+            rawArgs.addAll(uris);
+        }
+        jdbcTemplate.query("SELECT DISTINCT h.app, h.uri, h.ip FROM endpoint_hits h WHERE ("
+                        + String.join(" OR ", rawConditions) + ")"
+                        + HitRollupJdbcRepositoryImpl.uriFilter(uris),
+                rs -> {
+                    sketches.computeIfAbsent(new AppUri(rs.getString("app"), rs.getString("uri")),
+                                    k -> new HyperLogLog())
+                            .add(rs.getString("ip"));
+                },
+                rawArgs.toArray());
+
+        return sketches.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey().app(), entry.getKey().uri(), entry.getValue().estimate()})
+                .sorted(Comparator.comparingLong((Object[] row) -> (Long) row[2]).reversed())
+                .toList();
+    }
+
+    private void save(RollupGranularity granularity, List<HitRollupId> keys, Map<HitRollupId, HyperLogLog> sketches) {
+        LocalDateTime from = keys.stream().map(HitRollupId::getBucketStart).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = keys.stream().map(HitRollupId::getBucketStart).max(Comparator.naturalOrder()).orElseThrow();
+
+        Set<HitRollupId> existing = new HashSet<>();
+        jdbcTemplate.query("SELECT bucket_start, app, uri, registers FROM endpoint_hit_sketches "
+                        + "WHERE granularity = ? AND bucket_start >= ? AND bucket_start <= ?",
+                rs -> {
+                    HitRollupId key = new HitRollupId(granularity, rs.getTimestamp("bucket_start").toLocalDateTime(),
+                            rs.getString("app"), rs.getString("uri"));
+                    HyperLogLog sketch = sketches.get(key);
+                    if (sketch != null) {
+                        sketch.merge(HyperLogLog.fromBytes(rs.getBytes("registers")));
+                        existing.add(key);
+                    }
+                },
+                granularity.name(), from, to);
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (HitRollupId key : keys) {
+            byte[] registers = sketches.get(key).toBytes();
+            Timestamp bucketStart = Timestamp.valueOf(key.getBucketStart());
+            if (existing.contains(key)) {
+                updates.add(new Object[]{registers, granularity.name(), bucketStart, key.getApp(), key.getUri()});
+            } else {
+                inserts.add(new Object[]{granularity.name(), bucketStart, key.getApp(), key.getUri(), registers});
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    private record AppUri(String app, String uri) {
+    }
+}
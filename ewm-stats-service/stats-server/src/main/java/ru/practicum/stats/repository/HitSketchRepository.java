@@ -0,0 +1,8 @@
+package ru.practicum.stats.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import ru.practicum.stats.model.HitRollupId;
+import ru.practicum.stats.model.HitSketchEntity;
+
+public interface HitSketchRepository extends JpaRepository<HitSketchEntity, HitRollupId>, HitSketchJdbcRepository {
+}
@@ -0,0 +1,59 @@
+package ru.practicum.stats.repository;
+
+import ru.practicum.stats.model.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+record RollupRangePlan(List<Segment> segments, LocalDateTime alignedFrom, LocalDateTime alignedTo) {
+
+    record Segment(RollupGranularity granularity, LocalDateTime from, LocalDateTime to, boolean toInclusive) {
+
+        boolean isRaw() {
+            return granularity == null;
+        }
+    }
+
+    static RollupRangePlan of(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime alignedFrom = RollupGranularity.MINUTE.ceil(start);
+        LocalDateTime alignedTo = RollupGranularity.MINUTE.floor(end);
+        List<Segment> segments = new ArrayList<>();
+
+        if (!alignedFrom.isBefore(alignedTo)) {
+            segments.add(new Segment(null, start, end, true));
+            return new RollupRangePlan(segments, null, null);
+        }
+
+        if (start.isBefore(alignedFrom)) {
+            segments.add(new Segment(null, start, alignedFrom, false));
+        }
+        addAligned(segments, RollupGranularity.MINUTE, alignedFrom, alignedTo);
+        segments.add(new Segment(null, alignedTo, end, true));
+        return new RollupRangePlan(segments, alignedFrom, alignedTo);
+    }
+
+    boolean hasAlignedPart() {
+        return alignedFrom != null;
+    }
+
+    private static void addAligned(List<Segment> segments, RollupGranularity granularity,
+                                   LocalDateTime from, LocalDateTime to) {
+        RollupGranularity coarser = granularity.coarser();
+        LocalDateTime coarseFrom = coarser != null ? coarser.ceil(from) : null;
+        LocalDateTime coarseTo = coarser != null ? coarser.floor(to) : null;
+
+        if (coarser == null || !coarseFrom.isBefore(coarseTo)) {
+            segments.add(new Segment(granularity, from, to, false));
+            return;
+        }
+
+        if (from.isBefore(coarseFrom)) {
+            segments.add(new Segment(granularity, from, coarseFrom, false));
+        }
+        addAligned(segments, coarser, coarseFrom, coarseTo);
+        if (coarseTo.isBefore(to)) {
+            segments.add(new Segment(granularity, coarseTo, to, false));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.stats.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.stats.model.RollupStateEntity;
+
+import java.util.Optional;
+
+public interface RollupStateRepository extends JpaRepository<RollupStateEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RollupStateEntity s WHERE s.name = :name")
+    Optional<RollupStateEntity> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,10 @@
+package ru.practicum.stats.repository;
+
+import ru.practicum.stats.model.EndpointHitEntity;
+
+import java.util.List;
+
+public interface StatsBulkRepository {
+
+    int insertAll(List<EndpointHitEntity> hits);
+}
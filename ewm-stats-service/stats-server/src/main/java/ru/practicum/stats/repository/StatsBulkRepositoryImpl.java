@@ -0,0 +1,39 @@
+package ru.practicum.stats.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.stats.model.EndpointHitEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class StatsBulkRepositoryImpl implements StatsBulkRepository {
+
+    private static final int ROWS_PER_STATEMENT = 1000;
+    private static final String INSERT_PREFIX = "INSERT INTO endpoint_hits (app, uri, ip, timestamp) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<EndpointHitEntity> hits) {
+        int inserted = 0;
+        for (int from = 0; from < hits.size(); from += ROWS_PER_STATEMENT) {
+            List<EndpointHitEntity> chunk = hits.subList(from, Math.min(from + ROWS_PER_STATEMENT, hits.size()));
+
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+            Object[] args = new Object[chunk.size() * 4];
+            int i = 0;
+            for (EndpointHitEntity hit : chunk) {
+                args[i++] = hit.getApp();
+                args[i++] = hit.getUri();
+                args[i++] = hit.getIp();
+                args[i++] = hit.getTimestamp();
+            }
+
+            inserted += jdbcTemplate.update(sql, args);
+        }
+        return inserted;
+    }
+}
@@ -8,7 +8,8 @@ import ru.practicum.stats.model.EndpointHitEntity;
 import java.time.LocalDateTime;
 import java.util.List;
 
-public interface StatsRepository extends JpaRepository<EndpointHitEntity, Long> {
+public interface StatsRepository extends JpaRepository<EndpointHitEntity, Long>, StatsBulkRepository,
+        HitPartitionJdbcRepository {
 
     @Query("SELECT h.app, h.uri, COUNT(h.ip) as hits " +
             "FROM EndpointHitEntity h " +
@@ -31,4 +32,10 @@ public interface StatsRepository extends JpaRepository<EndpointHitEntity, Long>
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end,
             @Param("uris") List<String> uris);
-}
\ No newline at end of file
+
+    @Query("SELECT COALESCE(MAX(h.id), 0) FROM EndpointHitEntity h")
+    long findMaxId();
+
+    @Query("SELECT MIN(h.timestamp) FROM EndpointHitEntity h")
+    LocalDateTime findMinTimestamp();
+}
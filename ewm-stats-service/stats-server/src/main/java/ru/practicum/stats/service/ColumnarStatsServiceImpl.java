@@ -0,0 +1,50 @@
+package ru.practicum.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.practicum.stats.columnar.HitLog;
+import ru.practicum.stats.dto.EndpointHit;
+import ru.practicum.stats.dto.ViewStats;
+import ru.practicum.stats.mapper.StatsMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stats.storage", havingValue = "columnar")
+public class ColumnarStatsServiceImpl implements StatsService {
+
+    private final HitLog hitLog;
+
+    @Override
+    public void saveHit(EndpointHit endpointHit) {
+        hitLog.append(List.of(endpointHit));
+        log.info("Saved hit: {}", endpointHit);
+    }
+
+    @Override
+    public void saveHits(List<EndpointHit> endpointHits) {
+        hitLog.append(endpointHits);
+        log.info("Saved {} hits in bulk", endpointHits.size());
+    }
+
+    @Override
+    public List<ViewStats> getStats(LocalDateTime start, LocalDateTime end,
+                                    List<String> uris, Boolean unique) {
+        log.info("Getting stats from {} to {} for uris: {}, unique: {}",
+                start, end, uris, unique);
+        return StatsMapper.toViewStats(unique != null && unique
+                ? hitLog.getUniqueStats(start, end, uris)
+                : hitLog.getStats(start, end, uris));
+    }
+
+    @Override
+    public List<ViewStats> getApproximateUniqueStats(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        log.info("Getting approximate unique stats from {} to {} for uris: {}", start, end, uris);
+        return StatsMapper.toViewStats(hitLog.getApproximateUniqueStats(start, end, uris));
+    }
+}
@@ -0,0 +1,49 @@
+package ru.practicum.stats.service;
+
+import ru.practicum.stats.model.PartitionInterval;
+import ru.practicum.stats.repository.HitPartition;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+record PartitionPlan(List<HitPartition> toCreate, List<HitPartition> toDrop) {
+
+    private static final String PREFIX = "endpoint_hits_p";
+
+    static PartitionPlan of(PartitionInterval interval, LocalDateTime now, int premake, Period retention,
+                            List<HitPartition> existing) {
+        LocalDateTime from = interval.floor(now);
+        LocalDateTime to = from;
+        for (int i = 0; i <= premake; i++) {
+            to = interval.next(to);
+        }
+
+        List<HitPartition> toCreate = new ArrayList<>();
+        for (HitPartition partition : coverage(interval, from, to)) {
+            if (existing.stream().noneMatch(e -> e.overlaps(partition.from(), partition.to()))) {
+                toCreate.add(partition);
+            }
+        }
+
+        List<HitPartition> toDrop = new ArrayList<>();
+        if (!retention.isZero()) {
+            LocalDateTime cutoff = now.minus(retention);
+            for (HitPartition partition : existing) {
+                if (!partition.to().isAfter(cutoff)) {
+                    toDrop.add(partition);
+                }
+            }
+        }
+        return new PartitionPlan(toCreate, toDrop);
+    }
+
+    static List<HitPartition> coverage(PartitionInterval interval, LocalDateTime from, LocalDateTime to) {
+        List<HitPartition> partitions = new ArrayList<>();
+        for (LocalDateTime start = interval.floor(from); start.isBefore(to); start = interval.next(start)) {
+            partitions.add(new HitPartition(PREFIX + interval.suffix(start), start, interval.next(start)));
+        }
+        return partitions;
+    }
+}
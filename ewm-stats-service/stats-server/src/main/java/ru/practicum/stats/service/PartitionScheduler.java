@@ -0,0 +1,33 @@
+package ru.practicum.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stats.partitions.enabled", havingValue = "true")
+public class PartitionScheduler implements ApplicationRunner {
+
+    private final PartitionService partitionService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        maintain();
+    }
+
+    @Scheduled(fixedDelayString = "${stats.partitions.check-interval:PT1H}",
+            initialDelayString = "${stats.partitions.check-interval:PT1H}")
+    public void maintain() {
+        try {
+            partitionService.maintain();
+        } catch (Exception e) {
+            log.error("Failed to maintain hit partitions: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package ru.practicum.stats.service;
+
+public interface PartitionService {
+
+    void maintain();
+}
@@ -0,0 +1,96 @@
+package ru.practicum.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.stats.model.PartitionInterval;
+import ru.practicum.stats.model.RollupStateEntity;
+import ru.practicum.stats.repository.HitPartition;
+import ru.practicum.stats.repository.HitRollupJdbcRepositoryImpl;
+import ru.practicum.stats.repository.RollupStateRepository;
+import ru.practicum.stats.repository.StatsRepository;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PartitionServiceImpl implements PartitionService {
+
+    private final StatsRepository statsRepository;
+    private final RollupStateRepository rollupStateRepository;
+
+    @Value("${stats.partitions.interval:MONTH}")
+    private PartitionInterval interval = PartitionInterval.MONTH;
+
+    @Value("${stats.partitions.premake:3}")
+    private int premake = 3;
+
+    @Value("${stats.partitions.retention:P0D}")
+    private Period retention = Period.ZERO;
+
+    @Value("${stats.partitions.allow-exact-unique-loss:false}")
+    private boolean allowExactUniqueLoss;
+
+    @Value("${stats.rollup.enabled:true}")
+    private boolean rollupEnabled = true;
+
+    @Override
+    @Transactional
+    public void maintain() {
+        if (!statsRepository.isPartitioningSupported()) {
+            log.debug("Hit partitioning is not supported by the database, skipping");
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!statsRepository.isPartitioned()) {
+            LocalDateTime oldest = statsRepository.findMinTimestamp();
+            List<HitPartition> partitions = PartitionPlan.coverage(interval,
+                    oldest != null && oldest.isBefore(now) ? oldest : now, interval.next(interval.floor(now)));
+            statsRepository.convertToPartitioned(partitions);
+            log.info("Converted endpoint_hits to {} partitions starting {}", interval, partitions.get(0).from());
+        } else {
+            long drained = statsRepository.drainLegacyHits();
+            if (drained > 0) {
+                log.info("Moved {} hits written to endpoint_hits_legacy during conversion", drained);
+            }
+        }
+
+        PartitionPlan plan = PartitionPlan.of(interval, now, premake, retention, statsRepository.findPartitions());
+        for (HitPartition partition : plan.toCreate()) {
+            statsRepository.createPartition(partition);
+            log.info("Created hit partition {} for [{}, {})", partition.name(), partition.from(), partition.to());
+        }
+
+        if (!plan.toDrop().isEmpty() && !allowExactUniqueLoss) {
+            log.error("Keeping {} expired hit partitions: exact unique stats are read from raw hits, "
+                    + "set stats.partitions.allow-exact-unique-loss=true to drop them", plan.toDrop().size());
+            return;
+        }
+        long rolledUpTo = rolledUpHitId();
+        for (HitPartition partition : plan.toDrop()) {
+            long maxId = statsRepository.findMaxHitId(partition);
+            if (maxId > rolledUpTo) {
+                log.warn("Keeping expired hit partition {}: hits up to id={} are not rolled up yet (rolled up to {})",
+                        partition.name(), maxId, rolledUpTo);
+                continue;
+            }
+            statsRepository.dropPartition(partition);
+            log.info("Dropped expired hit partition {} for [{}, {})", partition.name(), partition.from(),
+                    partition.to());
+        }
+    }
+
+    private long rolledUpHitId() {
+        if (!rollupEnabled) {
+            return Long.MAX_VALUE;
+        }
+        return rollupStateRepository.findById(HitRollupJdbcRepositoryImpl.HITS_STATE)
+                .map(RollupStateEntity::getLastHitId)
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stats.rollup.enabled", havingValue = "true", matchIfMissing = true)
+public class RollupScheduler implements ApplicationRunner {
+
+    private final RollupService rollupService;
+
+    @Value("${stats.rollup.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) {
+            rollupService.backfill();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stats.rollup.interval:PT1M}", initialDelayString = "${stats.rollup.interval:PT1M}")
+    public void rollUp() {
+        try {
+            rollupService.rollUp();
+        } catch (Exception e) {
+            log.error("Failed to roll up hits: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package ru.practicum.stats.service;
+
+public interface RollupService {
+
+    long rollUp();
+
+    long backfill();
+}
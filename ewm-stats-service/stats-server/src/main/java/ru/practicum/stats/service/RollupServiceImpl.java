@@ -0,0 +1,86 @@
+package ru.practicum.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.stats.model.RollupStateEntity;
+import ru.practicum.stats.repository.HitRollupJdbcRepositoryImpl;
+import ru.practicum.stats.repository.HitRollupRepository;
+import ru.practicum.stats.repository.HitSketchRepository;
+import ru.practicum.stats.repository.RollupStateRepository;
+import ru.practicum.stats.repository.StatsRepository;
+
+import java.time.LocalDateTime;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RollupServiceImpl implements RollupService {
+
+    private final StatsRepository statsRepository;
+    private final HitRollupRepository hitRollupRepository;
+    private final HitSketchRepository hitSketchRepository;
+    private final RollupStateRepository rollupStateRepository;
+
+    @Value("${stats.rollup.chunk-size:100000}")
+    private long chunkSize = 100_000;
+
+    @Override
+    @Transactional
+    public long rollUp() {
+        RollupStateEntity state = lockState();
+        long previous = state.getLastHitId();
+        rollUpTo(state, state.getNextHitId());
+
+        state.setNextHitId(Math.max(statsRepository.findMaxId(), state.getLastHitId()));
+        state.setUpdatedAt(LocalDateTime.now());
+        rollupStateRepository.save(state);
+
+        if (state.getLastHitId() > previous) {
+            log.debug("Rolled up hits with id in ({}, {}]", previous, state.getLastHitId());
+        }
+        return state.getLastHitId();
+    }
+
+    @Override
+    @Transactional
+    public long backfill() {
+        RollupStateEntity state = lockState();
+        hitRollupRepository.deleteAllInBatch();
+        hitSketchRepository.deleteAllInBatch();
+        state.setLastHitId(0L);
+
+        long maxId = statsRepository.findMaxId();
+        rollUpTo(state, maxId);
+
+        state.setNextHitId(maxId);
+        state.setUpdatedAt(LocalDateTime.now());
+        rollupStateRepository.save(state);
+
+        log.info("Rollup backfill finished up to hit id={}", maxId);
+        return maxId;
+    }
+
+    private void rollUpTo(RollupStateEntity state, long targetHitId) {
+        long from = state.getLastHitId();
+        while (from < targetHitId) {
+            long to = Math.min(from + chunkSize, targetHitId);
+            hitRollupRepository.rollUp(from, to);
+            hitSketchRepository.mergeSketches(from, to);
+            from = to;
+        }
+        state.setLastHitId(from);
+    }
+
+    private RollupStateEntity lockState() {
+        return rollupStateRepository.findForUpdate(HitRollupJdbcRepositoryImpl.HITS_STATE)
+                .orElseGet(() -> rollupStateRepository.saveAndFlush(RollupStateEntity.builder()
+                        .name(HitRollupJdbcRepositoryImpl.HITS_STATE)
+                        .lastHitId(0L)
+                        .nextHitId(0L)
+                        .updatedAt(LocalDateTime.now())
+                        .build()));
+    }
+}
@@ -10,6 +10,10 @@ public interface StatsService {
 
     void saveHit(EndpointHit endpointHit);
 
+    void saveHits(List<EndpointHit> endpointHits);
+
     List<ViewStats> getStats(LocalDateTime start, LocalDateTime end,
                              List<String> uris, Boolean unique);
+
+    List<ViewStats> getApproximateUniqueStats(LocalDateTime start, LocalDateTime end, List<String> uris);
 }
\ No newline at end of file
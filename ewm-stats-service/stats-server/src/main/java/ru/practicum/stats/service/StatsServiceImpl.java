@@ -2,12 +2,16 @@ package ru.practicum.stats.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.stats.dto.EndpointHit;
 import ru.practicum.stats.dto.ViewStats;
 import ru.practicum.stats.mapper.StatsMapper;
 import ru.practicum.stats.model.EndpointHitEntity;
+import ru.practicum.stats.repository.HitRollupRepository;
+import ru.practicum.stats.repository.HitSketchRepository;
 import ru.practicum.stats.repository.StatsRepository;
 
 import java.time.LocalDateTime;
@@ -18,9 +22,15 @@ import java.util.stream.Collectors;
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@ConditionalOnProperty(name = "stats.storage", havingValue = "jpa", matchIfMissing = true)
 public class StatsServiceImpl implements StatsService {
 
     private final StatsRepository statsRepository;
+    private final HitRollupRepository hitRollupRepository;
+    private final HitSketchRepository hitSketchRepository;
+
+    @Value("${stats.rollup.enabled:true}")
+    private boolean rollupEnabled;
 
     @Override
     @Transactional
@@ -30,6 +40,16 @@ public class StatsServiceImpl implements StatsService {
         log.info("Saved hit: {}", endpointHit);
     }
 
+    @Override
+    @Transactional
+    public void saveHits(List<EndpointHit> endpointHits) {
+        List<EndpointHitEntity> entities = endpointHits.stream()
+                .map(StatsMapper::toEntity)
+                .collect(Collectors.toList());
+        int saved = statsRepository.insertAll(entities);
+        log.info("Saved {} hits in bulk", saved);
+    }
+
     @Override
     public List<ViewStats> getStats(LocalDateTime start, LocalDateTime end,
                                     List<String> uris, Boolean unique) {
@@ -39,16 +59,18 @@ public class StatsServiceImpl implements StatsService {
         List<Object[]> results;
         if (unique != null && unique) {
             results = statsRepository.getUniqueStats(start, end, uris);
+        } else if (rollupEnabled) {
+            results = hitRollupRepository.getStats(start, end, uris);
         } else {
             results = statsRepository.getStats(start, end, uris);
         }
 
-        return results.stream()
-                .map(row -> ViewStats.builder()
-                        .app((String) row[0])
-                        .uri((String) row[1])
-                        .hits((Long) row[2])
-                        .build())
-                .collect(Collectors.toList());
+        return StatsMapper.toViewStats(results);
+    }
+
+    @Override
+    public List<ViewStats> getApproximateUniqueStats(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        log.info("Getting approximate unique stats from {} to {} for uris: {}", start, end, uris);
+        return StatsMapper.toViewStats(hitSketchRepository.getUniqueStats(start, end, uris));
     }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package ru.practicum.stats.sketch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+    public static final double RELATIVE_STANDARD_ERROR = 1.04 / Math.sqrt(REGISTER_COUNT);
+
+    private static final int MAX_RANK = Long.SIZE - PRECISION + 1;
+    private static final int SPARSE_LIMIT = REGISTER_COUNT / 16;
+    private static final byte DENSE_FORMAT = 0;
+    private static final byte SPARSE_FORMAT = 1;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private byte[] registers;
+    private int[] sparse = new int[8];
+    private int sparseSize;
+
+    public void add(String value) {
+        addHash(hash(value));
+    }
+
+    public void add(long high, long low) {
+        addHash(mix(high * 0x9e3779b97f4a7c15L ^ low));
+    }
+
+    private void addHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        int rank = Math.min(Long.numberOfLeadingZeros(hash << PRECISION) + 1, MAX_RANK);
+        update(index, rank);
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.registers != null) {
+            for (int i = 0; i < REGISTER_COUNT; i++) {
+                if (other.registers[i] != 0) {
+                    update(i, other.registers[i]);
+                }
+            }
+        } else {
+            for (int i = 0; i < other.sparseSize; i++) {
+                update(other.sparse[i] >>> 8, other.sparse[i] & 0xFF);
+            }
+        }
+        return this;
+    }
+
+    public long estimate() {
+        double sum;
+        int zeros;
+        if (registers != null) {
+            sum = 0;
+            zeros = 0;
+            for (byte register : registers) {
+                sum += Math.scalb(1.0, -register);
+                if (register == 0) {
+                    zeros++;
+                }
+            }
+        } else {
+            zeros = REGISTER_COUNT - sparseSize;
+            sum = zeros;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += Math.scalb(1.0, -(sparse[i] & 0xFF));
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        if (registers == null) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + sparseSize * 3);
+            buffer.put(SPARSE_FORMAT);
+            for (int i = 0; i < sparseSize; i++) {
+                buffer.putShort((short) (sparse[i] >>> 8));
+                buffer.put((byte) (sparse[i] & 0xFF));
+            }
+            return buffer.array();
+        }
+
+        byte[] bytes = new byte[1 + REGISTER_COUNT];
+        bytes[0] = DENSE_FORMAT;
+        System.arraycopy(registers, 0, bytes, 1, REGISTER_COUNT);
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog();
+        if (bytes[0] == DENSE_FORMAT) {
+            if (bytes.length != 1 + REGISTER_COUNT) {
+                throw new IllegalArgumentException("Invalid dense sketch length: " + bytes.length);
+            }
+            sketch.registers = Arrays.copyOfRange(bytes, 1, bytes.length);
+            return sketch;
+        }
+        if (bytes[0] != SPARSE_FORMAT || (bytes.length - 1) % 3 != 0) {
+            throw new IllegalArgumentException("Unknown sketch format");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        while (buffer.hasRemaining()) {
+            int index = buffer.getShort() & 0xFFFF;
+            int rank = buffer.get();
+            sketch.update(index, rank);
+        }
+        return sketch;
+    }
+
+    private void update(int index, int rank) {
+        if (registers != null) {
+            if (registers[index] < rank) {
+                registers[index] = (byte) rank;
+            }
+            return;
+        }
+
+        for (int i = 0; i < sparseSize; i++) {
+            if (sparse[i] >>> 8 == index) {
+                if ((sparse[i] & 0xFF) < rank) {
+                    sparse[i] = index << 8 | rank;
+                }
+                return;
+            }
+        }
+
+        if (sparseSize == SPARSE_LIMIT) {
+            toDense();
+            registers[index] = (byte) rank;
+            return;
+        }
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparse.length * 2);
+        }
+        sparse[sparseSize++] = index << 8 | rank;
+    }
+
+    private void toDense() {
+        registers = new byte[REGISTER_COUNT];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparse[i] >>> 8] = (byte) (sparse[i] & 0xFF);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb53fe1a85ec6L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
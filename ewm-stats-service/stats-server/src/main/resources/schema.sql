@@ -8,4 +8,29 @@ CREATE TABLE IF NOT EXISTS endpoint_hits (
 
 CREATE INDEX IF NOT EXISTS idx_endpoint_hits_timestamp ON endpoint_hits(timestamp);
 CREATE INDEX IF NOT EXISTS idx_endpoint_hits_uri ON endpoint_hits(uri);
-CREATE INDEX IF NOT EXISTS idx_endpoint_hits_app_uri ON endpoint_hits(app, uri);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_endpoint_hits_app_uri ON endpoint_hits(app, uri);
+
+CREATE TABLE IF NOT EXISTS endpoint_hit_rollups (
+    granularity VARCHAR(10) NOT NULL, -- MINUTE, HOUR, DAY
+    bucket_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    app VARCHAR(255) NOT NULL,
+    uri VARCHAR(255) NOT NULL,
+    hits BIGINT NOT NULL,
+    PRIMARY KEY (granularity, bucket_start, app, uri)
+);
+
+CREATE TABLE IF NOT EXISTS endpoint_hit_rollup_state (
+    name VARCHAR(50) PRIMARY KEY,
+    last_hit_id BIGINT NOT NULL,
+    next_hit_id BIGINT NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS endpoint_hit_sketches (
+    granularity VARCHAR(10) NOT NULL, -- MINUTE, HOUR, DAY
+    bucket_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    app VARCHAR(255) NOT NULL,
+    uri VARCHAR(255) NOT NULL,
+    registers BYTEA NOT NULL, -- HyperLogLog, p=12
+    PRIMARY KEY (granularity, bucket_start, app, uri)
+);
@@ -0,0 +1,111 @@
+package ru.practicum.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.stats.dto.EndpointHit;
+import ru.practicum.stats.repository.StatsRepository;
+import ru.practicum.stats.service.ColumnarStatsServiceImpl;
+import ru.practicum.stats.service.StatsService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "stats.storage=columnar")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ColumnarStatsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @DynamicPropertySource
+    static void columnarDirectory(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("stats.columnar.directory", Files.createTempDirectory("hit-log")::toString);
+    }
+
+    @Test
+    void saveHitsAndGetStats_shouldBeServedFromHitLog() throws Exception {
+        EndpointHit hit = hit("/events/1", "192.168.1.1");
+        EndpointHit otherIp = hit("/events/1", "10.0.0.1");
+        EndpointHit otherUri = hit("/events/2", "192.168.1.1");
+
+        mockMvc.perform(post("/hit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(hit)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/hits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(hit, otherIp, otherUri))))
+                .andExpect(status().isCreated());
+
+        assertInstanceOf(ColumnarStatsServiceImpl.class, statsService);
+        assertEquals(0, statsRepository.count());
+
+        String start = LocalDateTime.now().minusDays(1).format(formatter);
+        String end = LocalDateTime.now().plusDays(1).format(formatter);
+        mockMvc.perform(get("/stats")
+                        .param("start", start)
+                        .param("end", end))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].uri").value("/events/1"))
+                .andExpect(jsonPath("$[0].hits").value(3))
+                .andExpect(jsonPath("$[1].uri").value("/events/2"))
+                .andExpect(jsonPath("$[1].hits").value(1));
+        mockMvc.perform(get("/stats")
+                        .param("start", start)
+                        .param("end", end)
+                        .param("uris", "/events/1")
+                        .param("unique", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].hits").value(2));
+    }
+
+    @Test
+    void saveHit_whenIpIsInvalid_shouldReturnBadRequest() throws Exception {
+        EndpointHit hit = hit("/events/1", "not-an-ip");
+
+        mockMvc.perform(post("/hit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(hit)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private EndpointHit hit(String uri, String ip) {
+        return EndpointHit.builder()
+                .app("ewm-main-service")
+                .uri(uri)
+                .ip(ip)
+                .timestamp(LocalDateTime.now().minusHours(1))
+                .build();
+    }
+}
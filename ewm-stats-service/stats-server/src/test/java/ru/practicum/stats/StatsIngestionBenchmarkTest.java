@@ -0,0 +1,101 @@
+package ru.practicum.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.stats.dto.EndpointHit;
+import ru.practicum.stats.repository.StatsRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatsIngestionBenchmarkTest {
+
+    private static final int HITS = Integer.getInteger("benchmark.hits", 5_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 500);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @AfterEach
+    void tearDown() {
+        statsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareSingleAndBulkIngestionThroughput(TestReporter reporter) throws Exception {
+        List<EndpointHit> hits = generateHits(HITS);
+
+        long singleStart = System.nanoTime();
+        for (EndpointHit hit : hits) {
+            mockMvc.perform(post("/hit")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(hit)))
+                    .andExpect(status().isCreated());
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+        assertEquals(HITS, statsRepository.count());
+        statsRepository.deleteAllInBatch();
+
+        long bulkStart = System.nanoTime();
+        for (int from = 0; from < hits.size(); from += BATCH_SIZE) {
+            List<EndpointHit> batch = hits.subList(from, Math.min(from + BATCH_SIZE, hits.size()));
+            mockMvc.perform(post("/hits")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batch)))
+                    .andExpect(status().isCreated());
+        }
+        long bulkNanos = System.nanoTime() - bulkStart;
+        assertEquals(HITS, statsRepository.count());
+
+        String result = String.format(Locale.ROOT, "Ingestion of %d hits: POST /hit %.0f hits/s, "
+                        + "POST /hits (batch %d) %.0f hits/s, x%.1f", HITS, throughput(singleNanos), BATCH_SIZE,
+                throughput(bulkNanos), (double) singleNanos / bulkNanos);
+        log.info(result);
+        reporter.publishEntry("benchmark", result);
+    }
+
+    private double throughput(long nanos) {
+        return HITS / (nanos / 1_000_000_000.0);
+    }
+
+    private List<EndpointHit> generateHits(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EndpointHit> hits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hits.add(EndpointHit.builder()
+                    .app("ewm-main-service")
+                    .uri("/events/" + (i % 1000))
+                    .ip("10.0." + (i / 256 % 256) + "." + (i % 256))
+                    .timestamp(now.minusSeconds(i))
+                    .build());
+        }
+        return hits;
+    }
+}
@@ -14,6 +14,7 @@ import ru.practicum.stats.dto.EndpointHit;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -90,4 +91,36 @@ class StatsIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].hits").value(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveHitsInBulkAndGetStats() throws Exception {
+        EndpointHit otherIp = EndpointHit.builder()
+                .app("ewm-main-service")
+                .uri("/events/1")
+                .ip("10.0.0.1")
+                .timestamp(LocalDateTime.now().minusHours(2))
+                .build();
+
+        mockMvc.perform(post("/hits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(endpointHit, endpointHit, otherIp))))
+                .andExpect(status().isCreated());
+
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        LocalDateTime end = LocalDateTime.now().plusDays(1);
+
+        mockMvc.perform(get("/stats")
+                        .param("start", start.format(formatter))
+                        .param("end", end.format(formatter))
+                        .param("unique", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].hits").value(3));
+
+        mockMvc.perform(get("/stats")
+                        .param("start", start.format(formatter))
+                        .param("end", end.format(formatter))
+                        .param("unique", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].hits").value(2));
+    }
+}
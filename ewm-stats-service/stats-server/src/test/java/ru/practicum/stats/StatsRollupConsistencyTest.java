@@ -0,0 +1,133 @@
+package ru.practicum.stats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.stats.model.EndpointHitEntity;
+import ru.practicum.stats.repository.HitRollupRepository;
+import ru.practicum.stats.repository.HitSketchRepository;
+import ru.practicum.stats.repository.RollupStateRepository;
+import ru.practicum.stats.repository.StatsRepository;
+import ru.practicum.stats.service.RollupService;
+import ru.practicum.stats.sketch.HyperLogLog;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "stats.rollup.interval=PT1H")
+@ActiveProfiles("test")
+class StatsRollupConsistencyTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2024, 3, 1, 0, 0, 0);
+    private static final int SPAN_SECONDS = 3 * 24 * 3600;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Autowired
+    private HitRollupRepository hitRollupRepository;
+
+    @Autowired
+    private HitSketchRepository hitSketchRepository;
+
+    @Autowired
+    private RollupStateRepository rollupStateRepository;
+
+    @Autowired
+    private RollupService rollupService;
+
+    private final Random random = new Random(42);
+
+    @AfterEach
+    void tearDown() {
+        statsRepository.deleteAllInBatch();
+        hitRollupRepository.deleteAllInBatch();
+        hitSketchRepository.deleteAllInBatch();
+        rollupStateRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getStats_shouldMatchRawQueryBeforeAndAfterRollup() {
+        statsRepository.insertAll(generateHits(3000, 50));
+        assertConsistent();
+
+        rollupService.backfill();
+        assertConsistent();
+
+        statsRepository.insertAll(generateHits(500, 50));
+        assertConsistent();
+
+        rollupService.rollUp();
+        assertConsistent();
+
+        rollupService.rollUp();
+        assertConsistent();
+    }
+
+    @Test
+    void getUniqueStats_shouldStayWithinErrorBoundOfExactCount() {
+        statsRepository.insertAll(generateHits(20_000, 5_000));
+        rollupService.backfill();
+        statsRepository.insertAll(generateHits(2_000, 5_000));
+
+        for (int i = 0; i < 10; i++) {
+            LocalDateTime start = ORIGIN.plusSeconds(random.nextInt(SPAN_SECONDS / 2));
+            LocalDateTime end = start.plusSeconds(SPAN_SECONDS / 2);
+            Map<String, Long> exact = toMap(statsRepository.getUniqueStats(start, end, null));
+            Map<String, Long> approximate = toMap(hitSketchRepository.getUniqueStats(start, end, null));
+
+            assertEquals(exact.keySet(), approximate.keySet());
+            exact.forEach((key, count) -> {
+                double error = Math.abs(approximate.get(key) - count) / (double) count;
+                assertTrue(error < 3 * HyperLogLog.RELATIVE_STANDARD_ERROR,
+                        "Relative error " + error + " for " + key + ", exact " + count);
+            });
+        }
+    }
+
+    private void assertConsistent() {
+        for (int i = 0; i < 40; i++) {
+            LocalDateTime start = ORIGIN.minusHours(1).plusSeconds(random.nextInt(SPAN_SECONDS));
+            LocalDateTime end = start.plusSeconds(random.nextInt(SPAN_SECONDS));
+            List<String> uris = i % 3 == 0 ? List.of("/events/1", "/events/2") : null;
+
+            assertEquals(toMap(statsRepository.getStats(start, end, uris)),
+                    toMap(hitRollupRepository.getStats(start, end, uris)),
+                    "Mismatch for range " + start + " - " + end + ", uris " + uris);
+        }
+
+        LocalDateTime dayStart = ORIGIN.plusDays(1);
+        assertEquals(toMap(statsRepository.getStats(dayStart, dayStart.plusDays(1), null)),
+                toMap(hitRollupRepository.getStats(dayStart, dayStart.plusDays(1), null)));
+    }
+
+    private Map<String, Long> toMap(List<Object[]> rows) {
+        Map<String, Long> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put(row[0] + " " + row[1], ((Number) row[2]).longValue());
+        }
+        return result;
+    }
+
+    private List<EndpointHitEntity> generateHits(int count, int distinctIps) {
+        List<EndpointHitEntity> hits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hits.add(EndpointHitEntity.builder()
+                    .app(random.nextInt(10) == 0 ? "other-service" : "ewm-main-service")
+                    .uri("/events/" + random.nextInt(5))
+                    .ip("10.0." + random.nextInt(distinctIps))
+                    .timestamp(ORIGIN.plusSeconds(random.nextInt(SPAN_SECONDS)))
+                    .build());
+        }
+        return hits;
+    }
+}
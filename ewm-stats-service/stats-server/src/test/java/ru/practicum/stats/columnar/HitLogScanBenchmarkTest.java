@@ -0,0 +1,73 @@
+package ru.practicum.stats.columnar;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import ru.practicum.stats.dto.EndpointHit;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@Tag("benchmark")
+class HitLogScanBenchmarkTest {
+
+    private static final int HITS = Integer.getInteger("benchmark.hits", 5_000_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 10_000);
+    private static final int URIS = 1_000;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void ingestAndScanThroughput(TestReporter reporter) throws Exception {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (HitLog hitLog = new HitLog(directory, 1 << 20, false)) {
+            long ingestStart = System.nanoTime();
+            for (int from = 0; from < HITS; from += BATCH_SIZE) {
+                List<EndpointHit> batch = new ArrayList<>(BATCH_SIZE);
+                for (int i = from; i < Math.min(from + BATCH_SIZE, HITS); i++) {
+                    batch.add(EndpointHit.builder()
+                            .app("ewm-main-service")
+                            .uri("/events/" + (i % URIS))
+                            .ip("10." + (i >>> 16 & 0xFF) + "." + (i >>> 8 & 0xFF) + "." + (i & 0xFF))
+                            .timestamp(start.plusSeconds(i))
+                            .build());
+                }
+                hitLog.append(batch);
+            }
+            long ingestNanos = System.nanoTime() - ingestStart;
+
+            LocalDateTime end = start.plusSeconds(HITS);
+            hitLog.getStats(start, end, null);
+            long scanStart = System.nanoTime();
+            List<Object[]> hits = hitLog.getStats(start, end, null);
+            long scanNanos = System.nanoTime() - scanStart;
+            assertEquals(URIS, hits.size());
+
+            List<String> uris = List.of("/events/1", "/events/2");
+            hitLog.getStats(start, start.plusSeconds(HITS / 2), uris);
+            long halfStart = System.nanoTime();
+            hitLog.getStats(start, start.plusSeconds(HITS / 2), uris);
+            long halfNanos = System.nanoTime() - halfStart;
+
+            long uniqueStart = System.nanoTime();
+            hitLog.getUniqueStats(start, end, null);
+            long uniqueNanos = System.nanoTime() - uniqueStart;
+
+            String result = String.format(Locale.ROOT, "Columnar hit log, %d hits: ingest %.0f hits/s, "
+                            + "full scan %.1f ms (%.0f M rows/s), half range with 2 uris %.1f ms, unique %.1f ms",
+                    HITS, HITS / (ingestNanos / 1e9), scanNanos / 1e6, HITS / (scanNanos / 1e3),
+                    halfNanos / 1e6, uniqueNanos / 1e6);
+            log.info(result);
+            reporter.publishEntry("benchmark", result);
+        }
+    }
+}
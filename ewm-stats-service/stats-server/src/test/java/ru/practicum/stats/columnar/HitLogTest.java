@@ -0,0 +1,191 @@
+package ru.practicum.stats.columnar;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.practicum.stats.dto.EndpointHit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HitLogTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @TempDir
+    private Path directory;
+
+    private HitLog hitLog;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        hitLog = new HitLog(directory, 1024, false);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        hitLog.close();
+    }
+
+    @Test
+    void getStats_shouldCountHitsPerAppAndUriInRange() {
+        hitLog.append(List.of(
+                hit("ewm-main-service", "/events/1", "10.0.0.1", START),
+                hit("ewm-main-service", "/events/1", "10.0.0.1", START.plusMinutes(1)),
+                hit("ewm-main-service", "/events/2", "10.0.0.2", START.plusMinutes(2)),
+                hit("other-service", "/events/1", "10.0.0.3", START.plusMinutes(3)),
+                hit("ewm-main-service", "/events/1", "10.0.0.4", START.plusDays(1))));
+
+        assertRows(List.<Object[]>of(
+                new Object[]{"ewm-main-service", "/events/1", 2L},
+                new Object[]{"ewm-main-service", "/events/2", 1L},
+                new Object[]{"other-service", "/events/1", 1L}
+        ), hitLog.getStats(START, START.plusHours(1), null), true);
+    }
+
+    @Test
+    void getStats_shouldIncludeBothBoundsAndApplyUriFilter() {
+        hitLog.append(List.of(
+                hit("app", "/events/1", "10.0.0.1", START),
+                hit("app", "/events/1", "10.0.0.1", START.plusMinutes(10)),
+                hit("app", "/events/2", "10.0.0.1", START.plusMinutes(5))));
+
+        assertRows(List.<Object[]>of(new Object[]{"app", "/events/1", 2L}),
+                hitLog.getStats(START, START.plusMinutes(10), List.of("/events/1", "/unknown")), false);
+        assertTrue(hitLog.getStats(START, START.plusMinutes(10), List.of("/unknown")).isEmpty());
+        assertTrue(hitLog.getStats(START, START.plusMinutes(10), List.of()).isEmpty());
+        assertTrue(hitLog.getStats(START.plusNanos(1), START.plusMinutes(4), null).isEmpty());
+    }
+
+    @Test
+    void getUniqueStats_shouldCountDistinctAddressesAcrossNotations() {
+        hitLog.append(List.of(
+                hit("app", "/events/1", "192.168.1.1", START),
+                hit("app", "/events/1", "::ffff:192.168.1.1", START),
+                hit("app", "/events/1", "2001:db8::1", START),
+                hit("app", "/events/1", "2001:0db8:0:0:0:0:0:1", START),
+                hit("app", "/events/1", "192.168.1.2", START)));
+
+        assertRows(List.<Object[]>of(new Object[]{"app", "/events/1", 3L}),
+                hitLog.getUniqueStats(START, START, null), false);
+        assertRows(List.<Object[]>of(new Object[]{"app", "/events/1", 3L}),
+                hitLog.getApproximateUniqueStats(START, START, null), false);
+        assertRows(List.<Object[]>of(new Object[]{"app", "/events/1", 5L}),
+                hitLog.getStats(START, START, null), false);
+    }
+
+    @Test
+    void append_whenIpIsInvalid_shouldRejectWholeBatch() {
+        assertThrows(IllegalArgumentException.class, () -> hitLog.append(List.of(
+                hit("app", "/events/1", "10.0.0.1", START),
+                hit("app", "/events/1", "10.0.0.256", START))));
+
+        assertTrue(hitLog.getStats(START, START, null).isEmpty());
+    }
+
+    @Test
+    void append_shouldRollOverSegmentsAndSurviveReopen() throws IOException {
+        List<EndpointHit> hits = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            hits.add(hit("app", "/events/" + (i % 3), "10.0." + (i / 256) + "." + (i % 256), START.plusSeconds(i)));
+        }
+        hitLog.append(hits.subList(0, 1_000));
+        hitLog.append(hits.subList(1_000, 2_500));
+        hitLog.close();
+
+        hitLog = new HitLog(directory, 1024, false);
+        hitLog.append(List.of(hit("app", "/events/9", "10.0.0.1", START)));
+
+        try (var files = Files.list(directory)) {
+            assertEquals(3, files.filter(file -> file.getFileName().toString().endsWith(".hits")).count());
+        }
+        assertRows(List.<Object[]>of(
+                new Object[]{"app", "/events/0", 834L},
+                new Object[]{"app", "/events/1", 833L},
+                new Object[]{"app", "/events/2", 833L},
+                new Object[]{"app", "/events/9", 1L}
+        ), hitLog.getStats(START, START.plusHours(1), null), true);
+        assertRows(List.<Object[]>of(new Object[]{"app", "/events/0", 834L}),
+                hitLog.getUniqueStats(START, START.plusHours(1), List.of("/events/0")), false);
+    }
+
+    @Test
+    void open_whenDictionaryTailIsTorn_shouldDropIncompleteEntry() throws IOException {
+        hitLog.append(List.of(hit("app", "/events/1", "10.0.0.1", START)));
+        hitLog.close();
+        Files.write(directory.resolve("dictionary.dat"), new byte[]{0, 0, 0, 42, 1, 2},
+                StandardOpenOption.APPEND);
+
+        hitLog = new HitLog(directory, 1024, false);
+        hitLog.append(List.of(hit("app", "/events/2", "10.0.0.1", START)));
+        hitLog.close();
+
+        hitLog = new HitLog(directory, 1024, false);
+        assertRows(List.<Object[]>of(
+                new Object[]{"app", "/events/1", 1L},
+                new Object[]{"app", "/events/2", 1L}
+        ), hitLog.getStats(START, START, null), true);
+    }
+
+    @Test
+    void open_whenSegmentHeaderIsAheadOfRows_shouldIgnoreUnwrittenRows() throws IOException {
+        hitLog.append(List.of(
+                hit("app", "/events/1", "10.0.0.1", START),
+                hit("app", "/events/1", "10.0.0.2", START.plusSeconds(1))));
+        hitLog.close();
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.filter(file -> file.getFileName().toString().endsWith(".hits")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 5), 12);
+        }
+
+        hitLog = new HitLog(directory, 1024, false);
+        assertRows(List.<Object[]>of(new Object[]{"app", "/events/1", 2L}),
+                hitLog.getStats(START, START.plusHours(1), null), false);
+
+        hitLog.append(List.of(hit("app", "/events/2", "10.0.0.1", START)));
+        hitLog.close();
+
+        hitLog = new HitLog(directory, 1024, false);
+        assertRows(List.<Object[]>of(
+                new Object[]{"app", "/events/1", 2L},
+                new Object[]{"app", "/events/2", 1L}
+        ), hitLog.getStats(START, START.plusHours(1), null), true);
+    }
+
+    private void assertRows(List<Object[]> expected, List<Object[]> actual, boolean sortByUri) {
+        List<Object[]> rows = new ArrayList<>(actual);
+        if (sortByUri) {
+            rows.sort((a, b) -> (a[0] + " " + a[1]).compareTo(b[0] + " " + b[1]));
+        }
+        assertEquals(expected.size(), rows.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), rows.get(i));
+        }
+    }
+
+    private EndpointHit hit(String app, String uri, String ip, LocalDateTime timestamp) {
+        return EndpointHit.builder()
+                .app(app)
+                .uri(uri)
+                .ip(ip)
+                .timestamp(timestamp)
+                .build();
+    }
+}
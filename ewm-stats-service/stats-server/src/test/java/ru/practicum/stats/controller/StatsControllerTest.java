@@ -17,7 +17,11 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -93,6 +97,57 @@ class StatsControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void saveHits_whenValidJsonArray_shouldReturn201() throws Exception {
+        mockMvc.perform(post("/hits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(endpointHit, endpointHit))))
+                .andExpect(status().isCreated());
+
+        verify(statsService).saveHits(argThat(hits -> hits.size() == 2));
+    }
+
+    @Test
+    void saveHits_whenValidNdjson_shouldReturn201() throws Exception {
+        String body = objectMapper.writeValueAsString(endpointHit) + "\n"
+                + objectMapper.writeValueAsString(endpointHit) + "\n"
+                + objectMapper.writeValueAsString(endpointHit) + "\n";
+
+        mockMvc.perform(post("/hits")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        verify(statsService).saveHits(argThat(hits -> hits.size() == 3));
+    }
+
+    @Test
+    void saveHits_whenOneHitInvalid_shouldReturn400() throws Exception {
+        EndpointHit invalid = EndpointHit.builder()
+                .app("ewm-main-service")
+                .uri("")
+                .ip("192.168.1.1")
+                .timestamp(LocalDateTime.of(2024, 1, 1, 12, 0, 0))
+                .build();
+
+        mockMvc.perform(post("/hits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(endpointHit, invalid))))
+                .andExpect(status().isBadRequest());
+
+        verify(statsService, never()).saveHits(anyList());
+    }
+
+    @Test
+    void saveHits_whenMalformedNdjson_shouldReturn400() throws Exception {
+        mockMvc.perform(post("/hits")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"app\": \"ewm\"\n{broken"))
+                .andExpect(status().isBadRequest());
+
+        verify(statsService, never()).saveHits(anyList());
+    }
+
     @Test
     void getStats_whenValidParams_shouldReturn200() throws Exception {
         when(statsService.getStats(any(), any(), any(), anyBoolean()))
@@ -107,6 +162,36 @@ class StatsControllerTest {
                 .andExpect(jsonPath("$[0].hits").value(10));
     }
 
+    @Test
+    void getStats_whenUniqueAndApproximate_shouldUseSketches() throws Exception {
+        when(statsService.getApproximateUniqueStats(any(), any(), any()))
+                .thenReturn(List.of(viewStats));
+
+        mockMvc.perform(get("/stats")
+                        .param("start", "2024-01-01 00:00:00")
+                        .param("end", "2024-12-31 23:59:59")
+                        .param("unique", "true")
+                        .param("approximate", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].hits").value(10));
+
+        verify(statsService, never()).getStats(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void getStats_whenApproximateWithoutUnique_shouldUseExactCounts() throws Exception {
+        when(statsService.getStats(any(), any(), any(), anyBoolean()))
+                .thenReturn(List.of(viewStats));
+
+        mockMvc.perform(get("/stats")
+                        .param("start", "2024-01-01 00:00:00")
+                        .param("end", "2024-12-31 23:59:59")
+                        .param("approximate", "true"))
+                .andExpect(status().isOk());
+
+        verify(statsService, never()).getApproximateUniqueStats(any(), any(), any());
+    }
+
     @Test
     void getStats_whenEndBeforeStart_shouldReturn400() throws Exception {
         mockMvc.perform(get("/stats")
@@ -0,0 +1,158 @@
+package ru.practicum.stats.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+class HitPartitionJdbcRepositoryPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final HitPartition JANUARY = month("endpoint_hits_p202401", 1);
+    private static final HitPartition FEBRUARY = month("endpoint_hits_p202402", 2);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private HitPartitionJdbcRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new HitPartitionJdbcRepositoryImpl(jdbcTemplate);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS endpoint_hits_legacy, endpoint_hits CASCADE");
+        jdbcTemplate.execute("DROP SEQUENCE IF EXISTS endpoint_hits_seq");
+        jdbcTemplate.execute("""
+                CREATE TABLE endpoint_hits (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    app VARCHAR(255) NOT NULL,
+                    uri VARCHAR(255) NOT NULL,
+                    ip VARCHAR(45) NOT NULL,
+                    timestamp TIMESTAMP(6) NOT NULL
+                )
+                """);
+        insertHit(LocalDateTime.of(2024, 1, 10, 12, 0));
+        insertHit(LocalDateTime.of(2024, 2, 10, 12, 0));
+        insertHit(LocalDateTime.of(2030, 1, 10, 12, 0));
+    }
+
+    @Test
+    void convertToPartitioned_shouldKeepHitsAndContinueIds() {
+        assertTrue(repository.isPartitioningSupported());
+        assertFalse(repository.isPartitioned());
+
+        convert();
+
+        assertTrue(repository.isPartitioned());
+        assertEquals(List.of(JANUARY, FEBRUARY), repository.findPartitions());
+        assertEquals(3L, count("endpoint_hits"));
+        assertEquals(1L, count("endpoint_hits_default"));
+        assertEquals(2L, repository.findMaxHitId(FEBRUARY));
+        assertEquals(4L, insertHit(LocalDateTime.of(2024, 1, 20, 12, 0)));
+    }
+
+    @Test
+    void createPartition_shouldMoveMatchingHitsOutOfDefaultPartition() {
+        convert();
+        HitPartition partition = new HitPartition("endpoint_hits_p203001",
+                LocalDateTime.of(2030, 1, 1, 0, 0), LocalDateTime.of(2030, 2, 1, 0, 0));
+
+        transactionTemplate.executeWithoutResult(status -> repository.createPartition(partition));
+
+        assertEquals(0L, count("endpoint_hits_default"));
+        assertEquals(1L, count(partition.name()));
+        assertEquals(List.of(JANUARY, FEBRUARY, partition), repository.findPartitions());
+        assertEquals(3L, count("endpoint_hits"));
+    }
+
+    @Test
+    void dropPartition_shouldRemoveWholeRange() {
+        convert();
+
+        transactionTemplate.executeWithoutResult(status -> repository.dropPartition(JANUARY));
+
+        assertEquals(List.of(FEBRUARY), repository.findPartitions());
+        assertEquals(2L, count("endpoint_hits"));
+    }
+
+    @Test
+    void drainLegacyHits_shouldKeepHitsQueuedBehindConversionLock() throws Exception {
+        CountDownLatch converted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> conversion = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                repository.convertToPartitioned(List.of(JANUARY, FEBRUARY));
+                converted.countDown();
+                await(release);
+            }));
+            assertTrue(converted.await(30, TimeUnit.SECONDS));
+
+            Future<Long> queued = executor.submit(() -> insertHit(LocalDateTime.of(2024, 2, 20, 12, 0)));
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (count("pg_locks WHERE NOT granted") == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            release.countDown();
+            conversion.get(30, TimeUnit.SECONDS);
+            queued.get(30, TimeUnit.SECONDS);
+
+            transactionTemplate.executeWithoutResult(status -> repository.drainLegacyHits());
+
+            assertEquals(4L, count("endpoint_hits"));
+            assertEquals(0L, count("pg_class WHERE relname = 'endpoint_hits_legacy'"));
+            assertEquals(Long.valueOf(0), transactionTemplate.execute(status -> repository.drainLegacyHits()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void convert() {
+        transactionTemplate.executeWithoutResult(status -> repository.convertToPartitioned(List.of(JANUARY, FEBRUARY)));
+    }
+
+    private long insertHit(LocalDateTime timestamp) {
+        return jdbcTemplate.queryForObject("INSERT INTO endpoint_hits (app, uri, ip, timestamp) "
+                + "VALUES ('ewm-main-service', '/events/1', '10.0.0.1', ?) RETURNING id", Long.class, timestamp);
+    }
+
+    private long count(String from) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + from, Long.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static HitPartition month(String name, int month) {
+        LocalDateTime from = LocalDateTime.of(2024, month, 1, 0, 0);
+        return new HitPartition(name, from, from.plusMonths(1));
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.stats.repository;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.stats.model.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RollupRangePlanTest {
+
+    @Test
+    void of_whenRangeWithinOneMinute_shouldUseRawRowsOnly() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 12, 0, 10);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 1, 12, 0, 50);
+
+        RollupRangePlan plan = RollupRangePlan.of(start, end);
+
+        assertFalse(plan.hasAlignedPart());
+        assertEquals(List.of(new RollupRangePlan.Segment(null, start, end, true)), plan.segments());
+    }
+
+    @Test
+    void of_whenRangeSpansDays_shouldUseCoarsestBucketsInTheMiddle() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 22, 58, 30);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 4, 1, 2, 15);
+
+        RollupRangePlan plan = RollupRangePlan.of(start, end);
+
+        assertEquals(List.of(
+                new RollupRangePlan.Segment(null, start, at(1, 22, 59), false),
+                new RollupRangePlan.Segment(RollupGranularity.MINUTE, at(1, 22, 59), at(1, 23, 0), false),
+                new RollupRangePlan.Segment(RollupGranularity.HOUR, at(1, 23, 0), at(2, 0, 0), false),
+                new RollupRangePlan.Segment(RollupGranularity.DAY, at(2, 0, 0), at(4, 0, 0), false),
+                new RollupRangePlan.Segment(RollupGranularity.HOUR, at(4, 0, 0), at(4, 1, 0), false),
+                new RollupRangePlan.Segment(RollupGranularity.MINUTE, at(4, 1, 0), at(4, 1, 2), false),
+                new RollupRangePlan.Segment(null, at(4, 1, 2), end, true)
+        ), plan.segments());
+        assertEquals(at(1, 22, 59), plan.alignedFrom());
+        assertEquals(at(4, 1, 2), plan.alignedTo());
+    }
+
+    @Test
+    void of_whenBoundsAligned_shouldNotAddEmptyEdges() {
+        RollupRangePlan plan = RollupRangePlan.of(at(1, 10, 0), at(1, 12, 0));
+
+        assertEquals(List.of(
+                new RollupRangePlan.Segment(RollupGranularity.HOUR, at(1, 10, 0), at(1, 12, 0), false),
+                new RollupRangePlan.Segment(null, at(1, 12, 0), at(1, 12, 0), true)
+        ), plan.segments());
+        assertTrue(plan.hasAlignedPart());
+    }
+
+    private LocalDateTime at(int day, int hour, int minute) {
+        return LocalDateTime.of(2024, 1, day, hour, minute);
+    }
+}
@@ -0,0 +1,62 @@
+package ru.practicum.stats.service;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.stats.model.PartitionInterval;
+import ru.practicum.stats.repository.HitPartition;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Test
+    void of_withoutPartitions_shouldCreateCurrentAndPremadeMonths() {
+        PartitionPlan plan = PartitionPlan.of(PartitionInterval.MONTH, NOW, 2, Period.ZERO, List.of());
+
+        assertEquals(List.of(month(3), month(4), month(5)), plan.toCreate());
+        assertTrue(plan.toDrop().isEmpty());
+    }
+
+    @Test
+    void of_shouldSkipExistingPartitions() {
+        PartitionPlan plan = PartitionPlan.of(PartitionInterval.MONTH, NOW, 2, Period.ZERO,
+                List.of(month(2), month(3), month(4)));
+
+        assertEquals(List.of(month(5)), plan.toCreate());
+    }
+
+    @Test
+    void of_withRetention_shouldDropOnlyPartitionsEndingBeforeCutoff() {
+        PartitionPlan plan = PartitionPlan.of(PartitionInterval.MONTH, NOW, 0, Period.ofMonths(1),
+                List.of(month(1), month(2), month(3)));
+
+        assertEquals(List.of(month(1)), plan.toDrop());
+        assertTrue(plan.toCreate().isEmpty());
+    }
+
+    @Test
+    void coverage_withWeeks_shouldStartOnMonday() {
+        List<HitPartition> partitions = PartitionPlan.coverage(PartitionInterval.WEEK,
+                LocalDateTime.of(2024, 3, 6, 8, 0), LocalDateTime.of(2024, 3, 12, 0, 0));
+
+        assertEquals(List.of(
+                new HitPartition("endpoint_hits_p20240304", day(4), day(11)),
+                new HitPartition("endpoint_hits_p20240311", day(11), day(18))
+        ), partitions);
+    }
+
+    private HitPartition month(int month) {
+        LocalDateTime from = LocalDateTime.of(2024, month, 1, 0, 0);
+        return new HitPartition(String.format("endpoint_hits_p2024%02d", month), from, from.plusMonths(1));
+    }
+
+    private LocalDateTime day(int day) {
+        return LocalDateTime.of(2024, 3, day, 0, 0);
+    }
+}
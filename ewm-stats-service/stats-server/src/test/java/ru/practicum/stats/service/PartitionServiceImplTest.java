@@ -0,0 +1,147 @@
+package ru.practicum.stats.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.practicum.stats.model.PartitionInterval;
+import ru.practicum.stats.model.RollupStateEntity;
+import ru.practicum.stats.repository.HitPartition;
+import ru.practicum.stats.repository.HitRollupJdbcRepositoryImpl;
+import ru.practicum.stats.repository.RollupStateRepository;
+import ru.practicum.stats.repository.StatsRepository;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionServiceImplTest {
+
+    @Mock
+    private StatsRepository statsRepository;
+
+    @Mock
+    private RollupStateRepository rollupStateRepository;
+
+    @InjectMocks
+    private PartitionServiceImpl partitionService;
+
+    private HitPartition expired;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partitionService, "interval", PartitionInterval.MONTH);
+        ReflectionTestUtils.setField(partitionService, "premake", 1);
+        ReflectionTestUtils.setField(partitionService, "retention", Period.ofMonths(6));
+        ReflectionTestUtils.setField(partitionService, "allowExactUniqueLoss", true);
+
+        LocalDateTime from = PartitionInterval.MONTH.floor(LocalDateTime.now()).minusYears(1);
+        expired = new HitPartition("endpoint_hits_p_old", from, from.plusMonths(1));
+    }
+
+    @Test
+    void maintain_whenDatabaseIsNotPostgres_shouldDoNothing() {
+        when(statsRepository.isPartitioningSupported()).thenReturn(false);
+
+        partitionService.maintain();
+
+        verify(statsRepository, never()).isPartitioned();
+        verify(statsRepository, never()).createPartition(any());
+    }
+
+    @Test
+    void maintain_whenTableIsPlain_shouldConvertItCoveringOldestHit() {
+        LocalDateTime oldest = LocalDateTime.now().minusMonths(2);
+        when(statsRepository.isPartitioningSupported()).thenReturn(true);
+        when(statsRepository.isPartitioned()).thenReturn(false);
+        when(statsRepository.findMinTimestamp()).thenReturn(oldest);
+
+        partitionService.maintain();
+
+        verify(statsRepository).convertToPartitioned(argThat(partitions -> partitions.size() == 3
+                && partitions.get(0).from().equals(PartitionInterval.MONTH.floor(oldest))));
+        verify(statsRepository, never()).drainLegacyHits();
+    }
+
+    @Test
+    void maintain_shouldCreateMissingPartitions() {
+        when(statsRepository.isPartitioningSupported()).thenReturn(true);
+        when(statsRepository.isPartitioned()).thenReturn(true);
+        when(statsRepository.findPartitions()).thenReturn(List.of());
+
+        partitionService.maintain();
+
+        verify(statsRepository, never()).convertToPartitioned(anyList());
+        verify(statsRepository).drainLegacyHits();
+        verify(statsRepository).createPartition(argThat(p ->
+                p.from().equals(PartitionInterval.MONTH.floor(LocalDateTime.now()))));
+        verify(statsRepository).createPartition(argThat(p ->
+                p.from().equals(PartitionInterval.MONTH.floor(LocalDateTime.now()).plusMonths(1))));
+    }
+
+    @Test
+    void maintain_whenExpiredPartitionIsRolledUp_shouldDropIt() {
+        stubExpiredPartition(100L);
+        when(rollupStateRepository.findById(HitRollupJdbcRepositoryImpl.HITS_STATE))
+                .thenReturn(Optional.of(RollupStateEntity.builder().lastHitId(100L).build()));
+
+        partitionService.maintain();
+
+        verify(statsRepository).dropPartition(expired);
+    }
+
+    @Test
+    void maintain_whenExpiredPartitionIsNotRolledUp_shouldKeepIt() {
+        stubExpiredPartition(100L);
+        when(rollupStateRepository.findById(HitRollupJdbcRepositoryImpl.HITS_STATE))
+                .thenReturn(Optional.of(RollupStateEntity.builder().lastHitId(99L).build()));
+
+        partitionService.maintain();
+
+        verify(statsRepository, never()).dropPartition(any());
+    }
+
+    @Test
+    void maintain_whenExactUniqueLossNotAllowed_shouldKeepExpiredPartitions() {
+        ReflectionTestUtils.setField(partitionService, "allowExactUniqueLoss", false);
+        when(statsRepository.isPartitioningSupported()).thenReturn(true);
+        when(statsRepository.isPartitioned()).thenReturn(true);
+        when(statsRepository.findPartitions()).thenReturn(List.of(expired));
+
+        partitionService.maintain();
+
+        verify(statsRepository, never()).dropPartition(any());
+        verifyNoInteractions(rollupStateRepository);
+    }
+
+    @Test
+    void maintain_whenRollupDisabled_shouldDropWithoutWatermark() {
+        ReflectionTestUtils.setField(partitionService, "rollupEnabled", false);
+        stubExpiredPartition(100L);
+
+        partitionService.maintain();
+
+        verify(statsRepository).dropPartition(expired);
+        verifyNoInteractions(rollupStateRepository);
+    }
+
+    private void stubExpiredPartition(long maxId) {
+        when(statsRepository.isPartitioningSupported()).thenReturn(true);
+        when(statsRepository.isPartitioned()).thenReturn(true);
+        when(statsRepository.findPartitions()).thenReturn(List.of(expired));
+        when(statsRepository.findMaxHitId(expired)).thenReturn(maxId);
+    }
+}
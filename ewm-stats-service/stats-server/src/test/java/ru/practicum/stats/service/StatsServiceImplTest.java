@@ -6,16 +6,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import ru.practicum.stats.dto.EndpointHit;
 import ru.practicum.stats.dto.ViewStats;
 import ru.practicum.stats.model.EndpointHitEntity;
+import ru.practicum.stats.repository.HitRollupRepository;
+import ru.practicum.stats.repository.HitSketchRepository;
 import ru.practicum.stats.repository.StatsRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +33,12 @@ class StatsServiceImplTest {
     @Mock
     private StatsRepository statsRepository;
 
+    @Mock
+    private HitRollupRepository hitRollupRepository;
+
+    @Mock
+    private HitSketchRepository hitSketchRepository;
+
     @InjectMocks
     private StatsServiceImpl statsService;
 
@@ -59,6 +72,16 @@ class StatsServiceImplTest {
         verify(statsRepository, times(1)).save(any(EndpointHitEntity.class));
     }
 
+    @Test
+    void saveHits_shouldInsertAllInOneBulkCall() {
+        when(statsRepository.insertAll(anyList())).thenReturn(2);
+
+        statsService.saveHits(List.of(endpointHit, endpointHit));
+
+        verify(statsRepository, times(1)).insertAll(argThat(entities -> entities.size() == 2));
+        verify(statsRepository, never()).save(any(EndpointHitEntity.class));
+    }
+
     @Test
     void getStats_whenUrisNull_shouldPassNullToRepository() {
         LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
@@ -87,4 +110,46 @@ class StatsServiceImplTest {
         assertTrue(result.isEmpty());
         verify(statsRepository, times(1)).getStats(start, end, uris);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getStats_whenRollupEnabled_shouldReadRollups() {
+        ReflectionTestUtils.setField(statsService, "rollupEnabled", true);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+        List<Object[]> rows = List.<Object[]>of(new Object[]{"ewm-main-service", "/events/1", 7L});
+
+        when(hitRollupRepository.getStats(start, end, null)).thenReturn(rows);
+
+        List<ViewStats> result = statsService.getStats(start, end, null, false);
+
+        assertEquals(7L, result.get(0).getHits());
+        verify(statsRepository, never()).getStats(any(), any(), any());
+    }
+
+    @Test
+    void getStats_whenUniqueAndRollupEnabled_shouldReadRawHits() {
+        ReflectionTestUtils.setField(statsService, "rollupEnabled", true);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+
+        when(statsRepository.getUniqueStats(start, end, null)).thenReturn(List.of());
+
+        statsService.getStats(start, end, null, true);
+
+        verify(hitRollupRepository, never()).getStats(any(), any(), any());
+    }
+
+    @Test
+    void getApproximateUniqueStats_shouldReadSketches() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+        List<Object[]> rows = List.<Object[]>of(new Object[]{"ewm-main-service", "/events/1", 3L});
+
+        when(hitSketchRepository.getUniqueStats(start, end, null)).thenReturn(rows);
+
+        List<ViewStats> result = statsService.getApproximateUniqueStats(start, end, null);
+
+        assertEquals(3L, result.get(0).getHits());
+        verify(statsRepository, never()).getUniqueStats(any(), any(), any());
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.stats.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+    private static final double TOLERANCE = 3 * HyperLogLog.RELATIVE_STANDARD_ERROR;
+
+    @Test
+    void estimate_whenFewValues_shouldBeExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            sketch.add(ip(i));
+            sketch.add(ip(i));
+        }
+
+        assertEquals(50, sketch.estimate());
+    }
+
+    @Test
+    void estimate_whenManyValues_shouldStayWithinErrorBound() {
+        for (int count : new int[]{1_000, 20_000, 200_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < count; i++) {
+                sketch.add(ip(i));
+            }
+
+            double error = Math.abs(sketch.estimate() - count) / (double) count;
+            assertTrue(error < TOLERANCE, "Relative error " + error + " for " + count + " values");
+        }
+    }
+
+    @Test
+    void merge_shouldEstimateUnionOfOverlappingSets() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 30_000; i++) {
+            first.add(ip(i));
+        }
+        for (int i = 20_000; i < 50_000; i++) {
+            second.add(ip(i));
+        }
+
+        long estimate = first.merge(second).estimate();
+
+        assertTrue(Math.abs(estimate - 50_000) / 50_000.0 < TOLERANCE, "Union estimate " + estimate);
+    }
+
+    @Test
+    void toBytes_shouldRoundTripSparseAndDenseSketches() {
+        HyperLogLog sparse = new HyperLogLog();
+        HyperLogLog dense = new HyperLogLog();
+        for (int i = 0; i < 10; i++) {
+            sparse.add(ip(i));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            dense.add(ip(i));
+        }
+
+        assertEquals(1 + 10 * 3, sparse.toBytes().length);
+        assertEquals(1 + HyperLogLog.REGISTER_COUNT, dense.toBytes().length);
+        assertEquals(sparse.estimate(), HyperLogLog.fromBytes(sparse.toBytes()).estimate());
+        assertEquals(dense.estimate(), HyperLogLog.fromBytes(dense.toBytes()).estimate());
+    }
+
+    @Test
+    void fromBytes_whenUnknownFormat_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{7, 1, 2}));
+    }
+
+    private String ip(int i) {
+        return "10." + (i >>> 16 & 0xFF) + "." + (i >>> 8 & 0xFF) + "." + (i & 0xFF);
+    }
+}